@@ -0,0 +1,144 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Carga cerrada sobre peticiones rechazadas (400/404): N hilos lanzan la misma petición en bucle durante un
+ * calentamiento y una medición, y se muestra el throughput y la latencia p50/p99 de cada escenario.
+ * Después mide en proceso el coste de lanzar y capturar una excepción a 120 marcos de profundidad (parecido a
+ * una pila de Spring MVC) con y sin traza de pila, que es lo que cambian las excepciones de error del cliente.
+ * Lo lanza scripts/rejected-requests-bench.sh contra la aplicación arrancada con el perfil h2.
+ *
+ *   java scripts/RejectedRequestsBench.java http://localhost:18080 [hilos] [segundos calentamiento] [segundos medición]
+ */
+public class RejectedRequestsBench {
+
+    private record Scenario(String name, int expectedStatus, HttpRequest request) {
+    }
+
+    private static final int THROW_DEPTH = 120;
+    private static final int THROW_ITERATIONS = 200_000;
+
+    private static final class WithStackTrace extends RuntimeException {
+        WithStackTrace(String message) {
+            super(message);
+        }
+    }
+
+    private static final class Stackless extends RuntimeException {
+        Stackless(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        String base = args[0];
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int warmupSeconds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        int measureSeconds = args.length > 3 ? Integer.parseInt(args[3]) : 20;
+
+        List<Scenario> scenarios = List.of(
+                // ValidationException sin acceso a base de datos (BatchIds)
+                new Scenario("validacion-400", 400, HttpRequest.newBuilder(URI.create(base + "/api/posts/batch"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"ids\":[]}")).build()),
+                // ResourceNotFoundException tras una consulta por clave primaria
+                new Scenario("no-encontrado-404", 404, HttpRequest.newBuilder(
+                        URI.create(base + "/api/user-profiles/" + UUID.randomUUID())).GET().build()));
+
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        System.out.printf("%-18s %10s %9s %9s%n", "escenario", "req/s", "p50 ms", "p99 ms");
+        for (Scenario scenario : scenarios) {
+            run(client, scenario, threads, warmupSeconds);
+            long[] latencies = run(client, scenario, threads, measureSeconds);
+            Arrays.sort(latencies);
+            System.out.printf("%-18s %10.0f %9.2f %9.2f%n", scenario.name(), latencies.length / (double) measureSeconds,
+                    percentile(latencies, 0.50) / 1e6, percentile(latencies, 0.99) / 1e6);
+        }
+
+        System.out.printf("%n%-18s %10s%n", "throw", "us/throw");
+        for (int round = 0; round < 3; round++) {
+            boolean measure = round == 2;
+            double withTrace = throwCost(() -> new WithStackTrace("Hashtag no válido"));
+            double stackless = throwCost(() -> new Stackless("Hashtag no válido"));
+            if (measure) {
+                System.out.printf("%-18s %10.2f%n%-18s %10.2f%n", "con-traza", withTrace, "sin-traza", stackless);
+            }
+        }
+    }
+
+    private static double throwCost(Supplier<RuntimeException> factory) {
+        long start = System.nanoTime();
+        int caught = 0;
+        for (int i = 0; i < THROW_ITERATIONS; i++) {
+            try {
+                recurse(THROW_DEPTH, factory);
+            } catch (RuntimeException e) {
+                caught += e.getMessage().length();
+            }
+        }
+        if (caught == 0) {
+            throw new IllegalStateException();
+        }
+        return (System.nanoTime() - start) / 1e3 / THROW_ITERATIONS;
+    }
+
+    private static int recurse(int depth, Supplier<RuntimeException> factory) {
+        if (depth == 0) {
+            throw factory.get();
+        }
+        return recurse(depth - 1, factory) + 1;
+    }
+
+    private static long[] run(HttpClient client, Scenario scenario, int threads, int seconds) throws Exception {
+        AtomicBoolean stop = new AtomicBoolean();
+        CountDownLatch done = new CountDownLatch(threads);
+        List<long[]> perThread = new ArrayList<>();
+        int[] counts = new int[threads];
+        for (int t = 0; t < threads; t++) {
+            long[] samples = new long[1 << 20];
+            perThread.add(samples);
+            int index = t;
+            Thread.ofPlatform().start(() -> {
+                try {
+                    while (!stop.get() && counts[index] < samples.length) {
+                        long start = System.nanoTime();
+                        HttpResponse<Void> response = client.send(scenario.request(), HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != scenario.expectedStatus()) {
+                            throw new IllegalStateException(scenario.name() + ": estado " + response.statusCode());
+                        }
+                        samples[counts[index]++] = System.nanoTime() - start;
+                    }
+                } catch (Exception e) {
+                    System.err.println(e.getMessage());
+                    stop.set(true);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        Thread.sleep(Duration.ofSeconds(seconds));
+        stop.set(true);
+        done.await();
+        long[] all = new long[Arrays.stream(counts).sum()];
+        int offset = 0;
+        for (int t = 0; t < threads; t++) {
+            System.arraycopy(perThread.get(t), 0, all, offset, counts[t]);
+            offset += counts[t];
+        }
+        return all;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted.length == 0 ? 0 : sorted[Math.min(sorted.length - 1, (int) (sorted.length * p))];
+    }
+}
@@ -0,0 +1,31 @@
+#!/usr/bin/env bash
+# Throughput de peticiones rechazadas (400 de validación, 404 de recurso inexistente): levanta el jar con el
+# perfil h2 y lanza scripts/RejectedRequestsBench.java contra él. Para comparar antes/después de un cambio,
+# se ejecuta con cada jar:
+#
+#   mvn package -DskipTests
+#   JAR=/ruta/al/jar/anterior.jar scripts/rejected-requests-bench.sh
+#   scripts/rejected-requests-bench.sh                      # target/*.jar
+#
+# Parámetros por entorno: THREADS (8), WARMUP (10 s), MEASURE (20 s), PORT (18080), JAVA_OPTS.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+PORT="${PORT:-18080}"
+JAR="${JAR:-$(ls target/*.jar 2>/dev/null | grep -v original | head -1 || true)}"
+if [[ -z "$JAR" ]]; then
+    echo "No hay jar: ejecuta antes mvn package" >&2
+    exit 1
+fi
+
+# shellcheck disable=SC2086
+java ${JAVA_OPTS:-} -jar "$JAR" --spring.profiles.active=h2 --server.port="$PORT" > target/bench-rejected.log 2>&1 &
+pid=$!
+trap 'kill "$pid" 2>/dev/null || true' EXIT
+for _ in $(seq 1 1200); do
+    curl -sf "localhost:$PORT/actuator/health" > /dev/null && break
+    sleep 0.05
+done
+
+echo "jar: $JAR"
+java scripts/RejectedRequestsBench.java "http://localhost:$PORT" "${THREADS:-8}" "${WARMUP:-10}" "${MEASURE:-20}"
@@ -0,0 +1,47 @@
+#!/usr/bin/env bash
+# Prueba de humo de arranque: levanta la aplicación con el perfil h2 (JVM y, si existe, imagen nativa),
+# espera a /actuator/health, hace un registro + login + post y muestra tiempo de arranque y memoria (RSS).
+#
+#   mvn -Pnative native:compile && mvn package     # ejecutable nativo + jar
+#   scripts/startup-smoke.sh
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+PORT="${PORT:-18080}"
+JAR="$(ls target/*.jar 2>/dev/null | grep -v original | head -1 || true)"
+NATIVE="target/red-social-app"
+
+run() {
+    local label="$1"; shift
+    local start end pid rss
+    start=$(date +%s%N)
+    "$@" --spring.profiles.active=h2 --server.port="$PORT" > "target/smoke-$label.log" 2>&1 &
+    pid=$!
+    for _ in $(seq 1 1200); do
+        curl -sf "localhost:$PORT/actuator/health" > /dev/null && break
+        sleep 0.05
+    done
+    end=$(date +%s%N)
+
+    curl -sf -XPOST "localhost:$PORT/api/auth/register" -H 'Content-Type: application/json' \
+        -d '{"email":"smoke@redsocial.com","password":"smoke123"}' > /dev/null
+    local token
+    token=$(curl -sf -XPOST "localhost:$PORT/api/auth/login" -H 'Content-Type: application/json' \
+        -d '{"email":"smoke@redsocial.com","password":"smoke123"}' | sed 's/.*"token":"\([^"]*\)".*/\1/')
+    curl -sf -XPOST "localhost:$PORT/api/posts" -H "Authorization: Bearer $token" \
+        -H 'Content-Type: application/json' -d '{"content":"smoke"}' > /dev/null
+    curl -sf "localhost:$PORT/api/posts" > /dev/null
+
+    rss=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+    kill "$pid"; wait "$pid" 2>/dev/null || true
+    printf '%-7s arranque: %5d ms   RSS: %6d MB\n' "$label" $(((end - start) / 1000000)) $((rss / 1024))
+}
+
+if [[ -n "$JAR" ]]; then
+    run jvm java -jar "$JAR"
+fi
+if [[ -x "$NATIVE" ]]; then
+    run native "$NATIVE"
+else
+    echo "native  no encontrado ($NATIVE): compila con 'mvn -Pnative native:compile'"
+fi
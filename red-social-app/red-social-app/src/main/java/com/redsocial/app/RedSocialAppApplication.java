@@ -1,7 +1,9 @@
 package com.redsocial.app;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.context.annotation.Bean;
 import org.springframework.boot.CommandLineRunner;
 import org.slf4j.Logger;
@@ -16,32 +18,58 @@ import java.sql.ResultSet;
 @SpringBootApplication
 public class RedSocialAppApplication {
 
+	private static final int STARTUP_STEPS_CAPACITY = 4096;
+
 	public static void main(String[] args) {
-		SpringApplication.run(RedSocialAppApplication.class, args);
+		SpringApplication application = new SpringApplication(RedSocialAppApplication.class);
+		// Guarda los pasos de arranque para StartupReport y /actuator/startup
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS_CAPACITY));
+		application.run(args);
 	}
 
+	/**
+	 * Prueba de conexión a BD al arrancar. Modos (app.startup.db-check): sync bloquea el arranque
+	 * y lo hace fallar si no hay conexión, async la ejecuta en segundo plano y off la omite.
+	 */
 	@Bean
-	CommandLineRunner dbConnectionTest(DataSource dataSource) {
+	CommandLineRunner dbConnectionTest(DataSource dataSource, @Value("${app.startup.db-check:sync}") String mode) {
 		return args -> {
 			Logger log = LoggerFactory.getLogger(RedSocialAppApplication.class);
-			try (Connection conn = dataSource.getConnection();
-				 PreparedStatement ps = conn.prepareStatement("SELECT 1");
-				 ResultSet rs = ps.executeQuery()) {
-
-				DatabaseMetaData md = conn.getMetaData();
-				String url = md.getURL();
-				String user = md.getUserName();
-				String driver = md.getDriverName() + " " + md.getDriverVersion();
-
-				if (rs.next()) {
-					log.info("Prueba de conexión a BD OK. URL={}, usuario={}, driver={}", url, user, driver);
-				} else {
-					log.warn("Conexión establecida pero la prueba 'SELECT 1' no devolvió filas. URL={}, usuario={}", url, user);
-				}
-			} catch (Exception e) {
-				log.error("Fallo en la prueba de conexión a la base de datos.", e);
-				throw e; // Opcional: volver a lanzar para fallar el arranque
+			if ("off".equalsIgnoreCase(mode)) {
+				return;
+			}
+			if ("async".equalsIgnoreCase(mode)) {
+				Thread.ofVirtual().name("db-connection-test").start(() -> {
+					try {
+						testConnection(dataSource, log);
+					} catch (Exception e) {
+						// Ya registrado en testConnection; en modo async no se detiene la aplicación
+					}
+				});
+				return;
 			}
+			testConnection(dataSource, log);
 		};
 	}
+
+	private static void testConnection(DataSource dataSource, Logger log) throws Exception {
+		try (Connection conn = dataSource.getConnection();
+			 PreparedStatement ps = conn.prepareStatement("SELECT 1");
+			 ResultSet rs = ps.executeQuery()) {
+
+			DatabaseMetaData md = conn.getMetaData();
+			String url = md.getURL();
+			String user = md.getUserName();
+			String driver = md.getDriverName() + " " + md.getDriverVersion();
+
+			if (rs.next()) {
+				log.info("Prueba de conexión a BD OK. URL={}, usuario={}, driver={}", url, user, driver);
+			} else {
+				log.warn("Conexión establecida pero la prueba 'SELECT 1' no devolvió filas. URL={}, usuario={}", url, user);
+			}
+		} catch (Exception e) {
+			log.error("Fallo en la prueba de conexión a la base de datos.", e);
+			throw e; // Opcional: volver a lanzar para fallar el arranque
+		}
+	}
 }
@@ -0,0 +1,75 @@
+package com.redsocial.app.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuración de la caché de segundo nivel de Hibernate (JCache sobre Caffeine, en proceso).
+ * Cada región se crea con un tamaño máximo propio; la invalidación al actualizar la resuelve
+ * Hibernate (estrategia READ_WRITE en entidades y región de timestamps para las consultas).
+ */
+@Configuration
+public class CacheConfig {
+
+    public static final String USERS_REGION = "users";
+    public static final String USER_PROFILES_REGION = "user-profiles";
+    public static final String USER_QUERIES_REGION = "user-queries";
+    public static final String USER_PROFILE_QUERIES_REGION = "user-profile-queries";
+    public static final String DEFAULT_QUERY_RESULTS_REGION = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Value("${app.cache.users.max-entries:10000}")
+    private long usersMaxEntries;
+
+    @Value("${app.cache.user-profiles.max-entries:10000}")
+    private long userProfilesMaxEntries;
+
+    @Value("${app.cache.queries.max-entries:20000}")
+    private long queriesMaxEntries;
+
+    @Value("${app.cache.queries.ttl-seconds:600}")
+    private long queriesTtlSeconds;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        createRegion(cacheManager, USERS_REGION, usersMaxEntries, 0);
+        createRegion(cacheManager, USER_PROFILES_REGION, userProfilesMaxEntries, 0);
+        createRegion(cacheManager, USER_QUERIES_REGION, queriesMaxEntries, queriesTtlSeconds);
+        createRegion(cacheManager, USER_PROFILE_QUERIES_REGION, queriesMaxEntries, queriesTtlSeconds);
+        createRegion(cacheManager, DEFAULT_QUERY_RESULTS_REGION, queriesMaxEntries, queriesTtlSeconds);
+        // La región de timestamps no debe expulsar entradas: de ella depende la invalidación de consultas
+        createRegion(cacheManager, UPDATE_TIMESTAMPS_REGION, 0, 0);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateSecondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private void createRegion(CacheManager cacheManager, String name, long maxEntries, long ttlSeconds) {
+        if (cacheManager.getCache(name) != null) {
+            return;
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStatisticsEnabled(true);
+        if (maxEntries > 0) {
+            configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        }
+        if (ttlSeconds > 0) {
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        }
+        cacheManager.createCache(name, configuration);
+    }
+}
@@ -0,0 +1,62 @@
+package com.redsocial.app.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Endpoint de Actuator (/actuator/cacheregions) con aciertos, fallos y ratio por región de la caché L2.
+ */
+@Component
+@Endpoint(id = "cacheregions")
+public class CacheRegionsEndpoint {
+
+    private static final List<String> DOMAIN_REGIONS = List.of(
+            CacheConfig.USERS_REGION, CacheConfig.USER_PROFILES_REGION);
+    private static final List<String> QUERY_REGIONS = List.of(
+            CacheConfig.USER_QUERIES_REGION, CacheConfig.USER_PROFILE_QUERIES_REGION,
+            CacheConfig.DEFAULT_QUERY_RESULTS_REGION);
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public CacheRegionsEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @ReadOperation
+    public Map<String, Map<String, Object>> regions() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        for (String regionName : DOMAIN_REGIONS) {
+            result.put(regionName, describe(statistics.getDomainDataRegionStatistics(regionName)));
+        }
+        for (String regionName : QUERY_REGIONS) {
+            CacheRegionStatistics region = statistics.getQueryRegionStatistics(regionName);
+            if (region != null) {
+                result.put(regionName, describe(region));
+            }
+        }
+        return result;
+    }
+
+    private Map<String, Object> describe(CacheRegionStatistics region) {
+        long hits = region.getHitCount();
+        long misses = region.getMissCount();
+        long lookups = hits + misses;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("puts", region.getPutCount());
+        stats.put("hitRatio", lookups == 0 ? 0.0 : (double) hits / lookups);
+        return stats;
+    }
+}
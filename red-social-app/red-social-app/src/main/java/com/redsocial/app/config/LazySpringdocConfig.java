@@ -0,0 +1,44 @@
+package com.redsocial.app.config;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Perfil fast-start: inicialización perezosa de los beans de springdoc, de modo que el escaneo
+ * de controladores para OpenAPI se hace en la primera petición a la documentación y no al arrancar.
+ */
+@Configuration
+@Profile("fast-start")
+public class LazySpringdocConfig {
+
+    private static final String SPRINGDOC_PACKAGE = "org.springdoc.";
+
+    @Bean
+    static BeanFactoryPostProcessor lazySpringdocBeans() {
+        return beanFactory -> {
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                if (isSpringdoc(beanFactory, name, definition)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    private static boolean isSpringdoc(ConfigurableListableBeanFactory beanFactory, String name, BeanDefinition definition) {
+        if (name.startsWith(SPRINGDOC_PACKAGE) || startsWithSpringdoc(definition.getBeanClassName())) {
+            return true;
+        }
+        String factoryBean = definition.getFactoryBeanName();
+        return factoryBean != null && beanFactory.containsBeanDefinition(factoryBean)
+                && startsWithSpringdoc(beanFactory.getBeanDefinition(factoryBean).getBeanClassName());
+    }
+
+    private static boolean startsWithSpringdoc(String className) {
+        return className != null && className.startsWith(SPRINGDOC_PACKAGE);
+    }
+}
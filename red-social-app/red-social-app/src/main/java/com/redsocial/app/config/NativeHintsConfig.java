@@ -0,0 +1,111 @@
+package com.redsocial.app.config;
+
+import org.springframework.aop.SpringProxy;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.DecoratingProxy;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.data.projection.TargetAware;
+import org.springframework.data.repository.Repository;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Pistas de alcanzabilidad para la imagen nativa (perfil Maven {@code native}).
+ * Solo cubren lo que el procesado AOT de Spring no detecta por sí mismo: las clases de JJWT que se
+ * instancian por nombre, el proveedor JCache de Caffeine, las entidades, los DTO que springdoc introspecciona
+ * y las proyecciones de los repositorios. Entidades, DTO y proyecciones se buscan en sus paquetes durante el
+ * procesado AOT, así que los tipos nuevos quedan cubiertos sin tocar esta clase.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.AppRuntimeHints.class)
+public class NativeHintsConfig {
+
+    // jjwt-impl y jjwt-jackson son dependencias runtime: se referencian por nombre
+    private static final List<String> JJWT_TYPES = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParser",
+            "io.jsonwebtoken.impl.DefaultClaims",
+            "io.jsonwebtoken.impl.DefaultHeader",
+            "io.jsonwebtoken.impl.DefaultJwsHeader",
+            "io.jsonwebtoken.impl.compression.DeflateCompressionCodec",
+            "io.jsonwebtoken.impl.compression.GzipCompressionCodec",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    private static final String BASE_PACKAGE = "com.redsocial.app";
+
+    static class AppRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (String type : JJWT_TYPES) {
+                hints.reflection().registerType(TypeReference.of(type),
+                        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+            // CacheConfig obtiene el proveedor por nombre de clase (Caching.getCachingProvider)
+            hints.reflection().registerType(TypeReference.of("com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider"),
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+            // Entidades, claves compuestas y enumerados que Hibernate instancia y rellena por reflexión
+            for (Class<?> type : scan(BASE_PACKAGE + ".model", classLoader)) {
+                hints.reflection().registerType(type,
+                        MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_DECLARED_METHODS);
+            }
+
+            // springdoc genera los esquemas OpenAPI leyendo getters y anotaciones de los DTO
+            new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                    scan(BASE_PACKAGE + ".dto", classLoader).toArray(Class<?>[]::new));
+
+            // Proyecciones de interfaz (PostStamp, PostSummary...): Spring Data las implementa con proxies JDK
+            for (Class<?> type : scan(BASE_PACKAGE + ".repository", classLoader)) {
+                if (isProjection(type)) {
+                    hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_METHODS);
+                    hints.proxies().registerJdkProxy(type, TargetAware.class, SpringProxy.class, DecoratingProxy.class);
+                }
+            }
+            hints.resources().registerPattern("META-INF/resources/webjars/swagger-ui/**");
+        }
+
+        /**
+         * Clases, records, enumerados e interfaces de primer nivel de un paquete (y sus subpaquetes).
+         */
+        private static List<Class<?>> scan(String basePackage, ClassLoader classLoader) {
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+                @Override
+                protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                    return beanDefinition.getMetadata().isIndependent();
+                }
+            };
+            scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+            scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+            return scanner.findCandidateComponents(basePackage).stream()
+                    .<Class<?>>map(definition -> ClassUtils.resolveClassName(definition.getBeanClassName(), classLoader))
+                    .toList();
+        }
+
+        /**
+         * Interfaz que solo declara getters y no es un repositorio ni un fragmento de repositorio.
+         */
+        private static boolean isProjection(Class<?> type) {
+            Method[] methods = type.getDeclaredMethods();
+            return type.isInterface() && !Repository.class.isAssignableFrom(type) && methods.length > 0
+                    && Arrays.stream(methods).allMatch(method -> method.getParameterCount() == 0
+                            && method.getName().startsWith("get"));
+        }
+    }
+}
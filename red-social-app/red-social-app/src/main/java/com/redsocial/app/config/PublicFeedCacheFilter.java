@@ -0,0 +1,168 @@
+package com.redsocial.app.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.redsocial.app.service.PublicFeedCache;
+import com.redsocial.app.service.TrendingService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Sirve desde {@link PublicFeedCache} las primeras páginas de {@code GET /api/posts} a los lectores anónimos,
+ * escribiendo los bytes ya serializados sin pasar por el controlador ni por Jackson. Va detrás de la cadena de
+ * seguridad (orden por defecto), así que CORS y las cabeceras de seguridad se aplican igual.
+ * Las respuestas cacheables llevan {@code Cache-Control: public} y {@code Vary} para un proxy inverso local.
+ */
+@Component
+public class PublicFeedCacheFilter extends OncePerRequestFilter {
+
+    private static final String FEED_PATH = "/api/posts";
+    private static final Set<String> KEY_PARAMETERS = Set.of("page", "size");
+    private static final int DEFAULT_PAGE = 0;
+    private static final int DEFAULT_SIZE = 10;
+
+    private final PublicFeedCache cache;
+    private final TrendingService trendingService;
+    private final ObjectMapper objectMapper;
+    private final Counter hits;
+    private final Counter misses;
+
+    public PublicFeedCacheFilter(PublicFeedCache cache, TrendingService trendingService,
+                                 ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.cache = cache;
+        this.trendingService = trendingService;
+        this.objectMapper = objectMapper;
+        this.hits = Counter.builder("app.feed-cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("app.feed-cache.requests").tag("result", "miss").register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod())
+                || !FEED_PATH.equals(request.getServletPath())
+                || request.getHeader(HttpHeaders.AUTHORIZATION) != null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        PublicFeedCache.Key key = key(request);
+        if (key == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        PublicFeedCache.Entry entry = cache.get(key);
+        if (entry != null) {
+            hits.increment();
+            // Las vistas anónimas siguen contando para tendencias aunque no se consulte la base de datos
+            for (UUID postId : entry.postIds()) {
+                trendingService.record(postId, TrendingService.Engagement.VIEW);
+            }
+            write(request, response, entry);
+            return;
+        }
+
+        misses.increment();
+        long generation = cache.generation();
+        ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, buffered);
+            if (buffered.getStatus() == HttpServletResponse.SC_OK) {
+                byte[] body = buffered.getContentAsByteArray();
+                cache.put(key, generation, body, postIds(body));
+                cacheHeaders(buffered, "MISS");
+            }
+        } finally {
+            buffered.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * Clave de la página pedida, o {@code null} si la petición no es cacheable (otros parámetros,
+     * valores no numéricos o fuera del rango cacheado; el controlador se encarga de validarlos).
+     */
+    private PublicFeedCache.Key key(HttpServletRequest request) {
+        if (!KEY_PARAMETERS.containsAll(request.getParameterMap().keySet())) {
+            return null;
+        }
+        try {
+            int page = intParameter(request, "page", DEFAULT_PAGE);
+            int size = intParameter(request, "size", DEFAULT_SIZE);
+            return cache.isCacheable(page, size) ? new PublicFeedCache.Key(page, size) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void write(HttpServletRequest request, HttpServletResponse response, PublicFeedCache.Entry entry)
+            throws IOException {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        byte[] body = gzip ? entry.gzipBody() : entry.body();
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        cacheHeaders(response, "HIT");
+        response.getOutputStream().write(body);
+    }
+
+    private void cacheHeaders(HttpServletResponse response, String result) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=" + cache.ttlSeconds());
+        addVary(response, HttpHeaders.AUTHORIZATION);
+        addVary(response, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader("X-Cache", result);
+    }
+
+    /**
+     * Añade {@code name} a {@code Vary} sin pisar los valores que ya haya puesto CORS ({@code Origin}, ...).
+     */
+    private static void addVary(HttpServletResponse response, String name) {
+        for (String header : response.getHeaders(HttpHeaders.VARY)) {
+            for (String value : header.split(",")) {
+                if (value.trim().toLowerCase(Locale.ROOT).equals(name.toLowerCase(Locale.ROOT))) {
+                    return;
+                }
+            }
+        }
+        response.addHeader(HttpHeaders.VARY, name);
+    }
+
+    private List<UUID> postIds(byte[] body) throws IOException {
+        List<UUID> ids = new ArrayList<>();
+        for (JsonNode post : objectMapper.readTree(body).path("content")) {
+            ids.add(UUID.fromString(post.path("id").asText()));
+        }
+        return ids;
+    }
+
+    private static int intParameter(HttpServletRequest request, String name, int defaultValue) {
+        String value = request.getParameter(name);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.trim());
+    }
+}
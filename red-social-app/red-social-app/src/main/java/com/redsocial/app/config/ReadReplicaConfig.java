@@ -0,0 +1,107 @@
+package com.redsocial.app.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Enrutado de transacciones {@code readOnly} hacia réplicas de lectura.
+ * Solo se activa si se define {@code app.datasource.replicas.urls}; la conexión física se obtiene
+ * de forma perezosa para que el flag de solo lectura de la transacción ya esté fijado al elegir destino.
+ * Las réplicas se comprueban en segundo plano, de modo que una réplica lenta o caída no retrasa el arranque;
+ * hasta la primera comprobación, las lecturas van al primario.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replicas.urls")
+public class ReadReplicaConfig {
+
+    @Value("${app.datasource.replicas.urls}")
+    private String replicaUrls;
+
+    @Value("${app.datasource.replicas.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${app.datasource.replicas.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    @Value("${app.datasource.replicas.lag-query:}")
+    private String lagQuery;
+
+    @Value("${app.datasource.replicas.max-lag-ms:5000}")
+    private long maxLagMs;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int maximumPoolSize;
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+    private ReplicaRoutingDataSource replicaRouting;
+    private MeterRegistry meterRegistry;
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry.getIfAvailable();
+        HikariDataSource primary = createPool("primary", properties.getDriverClassName(), properties.getUrl(),
+                properties.getUsername(), properties.getPassword());
+
+        List<DataSource> replicas = new ArrayList<>();
+        String[] urls = StringUtils.commaDelimitedListToStringArray(replicaUrls);
+        for (int i = 0; i < urls.length; i++) {
+            replicas.add(createPool("replica-" + i, properties.getDriverClassName(), urls[i].trim(),
+                    replicaUsername, replicaPassword));
+        }
+
+        replicaRouting = new ReplicaRoutingDataSource(primary, replicas, lagQuery, maxLagMs);
+
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(replicaRouting);
+        return proxy;
+    }
+
+    /**
+     * La primera ejecución se lanza en el hilo del planificador al terminar de refrescarse el contexto,
+     * no al crear el {@code dataSource}.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        if (replicaRouting != null) {
+            replicaRouting.checkReplicas();
+        }
+    }
+
+    @PreDestroy
+    public void closePools() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    private HikariDataSource createPool(String name, String driverClassName, String url, String username, String password) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(name);
+        pool.setDriverClassName(driverClassName);
+        pool.setJdbcUrl(url);
+        pool.setUsername(username);
+        pool.setPassword(password);
+        pool.setMaximumPoolSize(maximumPoolSize);
+        if (meterRegistry != null) {
+            // Estos pools no son beans: sus métricas (hikaricp.*) se registran aquí
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        }
+        pools.add(pool);
+        return pool;
+    }
+}
@@ -0,0 +1,107 @@
+package com.redsocial.app.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource de solo lectura que reparte las conexiones entre las réplicas en round-robin.
+ * Solo se eligen réplicas sanas y con un retraso de replicación aceptable; si no queda
+ * ninguna se usa el primario. Hasta la primera comprobación, las lecturas van al primario.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final String lagQuery;
+    private final long maxLagMs;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, String lagQuery, long maxLagMs) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.lagQuery = lagQuery;
+        this.maxLagMs = maxLagMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route().getConnection(username, password);
+    }
+
+    /**
+     * Comprueba cada réplica (conexión válida y retraso de replicación) y actualiza su estado.
+     */
+    public void checkReplicas() {
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(i);
+            boolean wasAvailable = replica.available;
+            // En la primera comprobación también se avisa de las réplicas que no entran en rotación
+            boolean firstCheck = !replica.checked;
+            replica.checked = true;
+            try (Connection conn = replica.dataSource.getConnection()) {
+                long lagMs = measureLag(conn);
+                replica.available = conn.isValid(VALIDATION_TIMEOUT_SECONDS) && lagMs <= maxLagMs;
+                if (!replica.available && (wasAvailable || firstCheck)) {
+                    logger.warn("Réplica {} fuera de rotación (retraso {} ms)", i, lagMs);
+                }
+            } catch (SQLException e) {
+                replica.available = false;
+                if (wasAvailable || firstCheck) {
+                    logger.warn("Réplica {} no disponible: {}", i, e.getMessage());
+                }
+            }
+            if (replica.available && !wasAvailable) {
+                logger.info("Réplica {} en rotación", i);
+            }
+        }
+    }
+
+    private DataSource route() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.available) {
+                return replica.dataSource;
+            }
+        }
+        return primary;
+    }
+
+    private long measureLag(Connection conn) throws SQLException {
+        if (!StringUtils.hasText(lagQuery)) {
+            return 0;
+        }
+        try (Statement st = conn.createStatement(); ResultSet rs = st.executeQuery(lagQuery)) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    private static final class Replica {
+        private final DataSource dataSource;
+        private volatile boolean available;
+        private volatile boolean checked;
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.redsocial.app.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Filtro de Logback que deja pasar solo 1 de cada {@code rate} eventos INFO de los loggers indicados.
+ * Se evalúa antes de formatear el mensaje, así que los eventos descartados no generan objetos.
+ * WARN y ERROR nunca se muestrean.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private int rate = 1;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (rate <= 1 || level != Level.INFO) {
+            return FilterReply.NEUTRAL;
+        }
+        AtomicLong counter = counters.get(logger.getName());
+        if (counter == null) {
+            return FilterReply.NEUTRAL;
+        }
+        return counter.getAndIncrement() % rate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    /**
+     * Lista de loggers separada por comas.
+     */
+    public void setLoggers(String loggers) {
+        counters.clear();
+        for (String name : loggers.split(",")) {
+            if (!name.isBlank()) {
+                counters.put(name.trim(), new AtomicLong());
+            }
+        }
+    }
+
+    public void setRate(int rate) {
+        this.rate = rate;
+    }
+}
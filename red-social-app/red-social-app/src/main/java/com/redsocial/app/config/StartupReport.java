@@ -0,0 +1,60 @@
+package com.redsocial.app.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+
+/**
+ * Informe de arranque: tiempo de JVM hasta estar lista y los pasos de Spring más lentos.
+ * El detalle completo está en /actuator/startup.
+ */
+@Component
+public class StartupReport {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupReport.class);
+
+    private final boolean enabled;
+    private final int topSteps;
+
+    public StartupReport(@Value("${app.startup.report.enabled:true}") boolean enabled,
+                         @Value("${app.startup.report.top-steps:5}") int topSteps) {
+        this.enabled = enabled;
+        this.topSteps = topSteps;
+    }
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        logger.info("Aplicación lista en {} ms (uptime de la JVM: {} ms)",
+                event.getTimeTaken() != null ? event.getTimeTaken().toMillis() : -1,
+                ManagementFactory.getRuntimeMXBean().getUptime());
+
+        ApplicationStartup startup = event.getApplicationContext().getApplicationStartup();
+        if (startup instanceof BufferingApplicationStartup buffering) {
+            StartupTimeline timeline = buffering.getBufferedTimeline();
+            timeline.getEvents().stream()
+                    .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                    .limit(topSteps)
+                    .forEach(step -> logger.info("  {} ms - {} {}",
+                            step.getDuration().toMillis(), step.getStartupStep().getName(), describe(step)));
+        }
+    }
+
+    private String describe(StartupTimeline.TimelineEvent step) {
+        StringBuilder tags = new StringBuilder();
+        step.getStartupStep().getTags().forEach(tag -> tags.append(tag.getKey()).append('=').append(tag.getValue()).append(' '));
+        return tags.toString().trim();
+    }
+}
@@ -0,0 +1,157 @@
+package com.redsocial.app.controller;
+
+import com.redsocial.app.dto.CommentResponse;
+import com.redsocial.app.dto.CreateCommentRequest;
+import com.redsocial.app.dto.CursorPage;
+import com.redsocial.app.exception.AuthenticationException;
+import com.redsocial.app.exception.ResourceNotFoundException;
+import com.redsocial.app.exception.ValidationException;
+import com.redsocial.app.model.User;
+import com.redsocial.app.repository.UserRepository;
+import com.redsocial.app.service.CommentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api")
+@Tag(name = "Comentarios", description = "Endpoints para comentarios y respuestas de publicaciones")
+public class CommentController {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommentController.class);
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MIN_PAGE_SIZE = 1;
+
+    private final CommentService commentService;
+    private final UserRepository userRepository;
+
+    public CommentController(CommentService commentService, UserRepository userRepository) {
+        this.commentService = commentService;
+        this.userRepository = userRepository;
+    }
+
+    @PostMapping("/posts/{postId}/comments")
+    @Operation(
+            summary = "Comentar una publicación",
+            description = "Crea un comentario en la publicación. Con 'parentId' se crea una respuesta a otro comentario del mismo post."
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Comentario creado exitosamente",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = CommentResponse.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Datos de entrada inválidos"),
+            @ApiResponse(responseCode = "401", description = "No autenticado o token inválido"),
+            @ApiResponse(responseCode = "404", description = "Post o comentario padre no encontrado")
+    })
+    public ResponseEntity<CommentResponse> createComment(
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal UserDetails principal,
+            @Parameter(description = "ID del post", example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID postId,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Comentario a crear",
+                    required = true,
+                    content = @Content(
+                            schema = @Schema(implementation = CreateCommentRequest.class),
+                            examples = @ExampleObject(
+                                    name = "Respuesta a un comentario",
+                                    value = "{\"content\": \"¡Totalmente de acuerdo!\", \"parentId\": \"789e0123-e89b-12d3-a456-426614174002\"}"
+                            )
+                    )
+            )
+            @RequestBody @Valid CreateCommentRequest request) {
+        logger.debug("Creando comentario en el post {}", postId);
+
+        if (principal == null || principal.getUsername() == null) {
+            throw new AuthenticationException("No autenticado");
+        }
+        User user = userRepository.findByEmail(principal.getUsername().toLowerCase().trim())
+                .orElseThrow(() -> new ResourceNotFoundException("Usuario no encontrado"));
+
+        CommentResponse response = commentService.create(user, postId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @GetMapping("/posts/{postId}/comments")
+    @Operation(
+            summary = "Listar comentarios de una publicación",
+            description = "Comentarios de primer nivel, del más antiguo al más reciente. Para la página siguiente " +
+                    "se pasa el 'nextCursor' de la respuesta anterior; es nulo en la última página."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Comentarios obtenidos exitosamente",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            examples = @ExampleObject(
+                                    name = "Página de comentarios",
+                                    value = "{\"items\": [{\"id\": \"789e0123-e89b-12d3-a456-426614174002\", \"postId\": \"123e4567-e89b-12d3-a456-426614174000\", \"parentId\": null, \"content\": \"Buen post\"}], \"nextCursor\": \"MTcwNDExMDQwMDowOjc4OWUw\"}"
+                            )
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Cursor o tamaño de página inválidos")
+    })
+    public ResponseEntity<CursorPage<CommentResponse>> listComments(
+            @Parameter(description = "ID del post", example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID postId,
+            @Parameter(description = "Cursor devuelto en la página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamaño de página (1-100)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        validatePageSize(size);
+        return ResponseEntity.ok(commentService.listByPost(postId, cursor, size));
+    }
+
+    @GetMapping("/comments/{commentId}/replies")
+    @Operation(
+            summary = "Listar respuestas de un comentario",
+            description = "Respuestas directas al comentario, del más antiguo al más reciente, con la misma paginación por cursor."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Respuestas obtenidas exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Cursor o tamaño de página inválidos")
+    })
+    public ResponseEntity<CursorPage<CommentResponse>> listReplies(
+            @Parameter(description = "ID del comentario", example = "789e0123-e89b-12d3-a456-426614174002")
+            @PathVariable UUID commentId,
+            @Parameter(description = "Cursor devuelto en la página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamaño de página (1-100)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        validatePageSize(size);
+        return ResponseEntity.ok(commentService.listReplies(commentId, cursor, size));
+    }
+
+    /**
+     * Valida el tamaño de página.
+     */
+    private void validatePageSize(int size) {
+        if (size < MIN_PAGE_SIZE || size > MAX_PAGE_SIZE) {
+            throw new ValidationException("El tamaño de página debe estar entre " + MIN_PAGE_SIZE + " y " + MAX_PAGE_SIZE);
+        }
+    }
+}
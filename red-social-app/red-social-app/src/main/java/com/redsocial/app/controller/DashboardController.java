@@ -0,0 +1,82 @@
+package com.redsocial.app.controller;
+
+import com.redsocial.app.dto.DashboardResponse;
+import com.redsocial.app.exception.AuthenticationException;
+import com.redsocial.app.exception.ValidationException;
+import com.redsocial.app.model.User;
+import com.redsocial.app.service.DashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@Tag(name = "Panel", description = "Datos iniciales del panel del usuario autenticado")
+public class DashboardController {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardController.class);
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MIN_PAGE_SIZE = 1;
+
+    private final DashboardService dashboardService;
+
+    public DashboardController(DashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    @GetMapping
+    @Operation(
+            summary = "Obtener el panel del usuario autenticado",
+            description = "Devuelve en una sola petición el usuario, su perfil y la primera página del feed. " +
+                    "Sustituye a las llamadas encadenadas a /auth/me, /user-profiles/by-user y /posts."
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Panel obtenido exitosamente",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = DashboardResponse.class),
+                            examples = @ExampleObject(
+                                    name = "Panel",
+                                    value = "{\"userId\": \"456e7890-e89b-12d3-a456-426614174001\", \"email\": \"usuario@ejemplo.com\", \"profile\": {\"alias\": \"juanperez\"}, \"feed\": []}"
+                            )
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Tamaño de página inválido"),
+            @ApiResponse(responseCode = "401", description = "No autenticado o token inválido"),
+            @ApiResponse(responseCode = "503", description = "Tiempo de espera agotado al cargar el panel")
+    })
+    public ResponseEntity<DashboardResponse> dashboard(
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal UserDetails principal,
+            @Parameter(description = "Número de posts del feed (1-100)", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+        // El filtro JWT ya cargó el usuario: se reutiliza en lugar de volver a buscarlo por email
+        if (!(principal instanceof User user)) {
+            throw new AuthenticationException("No autenticado");
+        }
+        if (size < MIN_PAGE_SIZE || size > MAX_PAGE_SIZE) {
+            throw new ValidationException("El tamaño de página debe estar entre " + MIN_PAGE_SIZE + " y " + MAX_PAGE_SIZE);
+        }
+        logger.debug("Cargando panel del usuario {}", user.getId());
+        return ResponseEntity.ok(dashboardService.load(user, size));
+    }
+}
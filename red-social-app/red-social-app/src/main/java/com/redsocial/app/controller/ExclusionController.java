@@ -0,0 +1,126 @@
+package com.redsocial.app.controller;
+
+import com.redsocial.app.exception.AuthenticationException;
+import com.redsocial.app.exception.ResourceNotFoundException;
+import com.redsocial.app.model.ExclusionKind;
+import com.redsocial.app.model.User;
+import com.redsocial.app.repository.UserRepository;
+import com.redsocial.app.service.ExclusionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/users")
+@Tag(name = "Silenciar y bloquear", description = "Endpoints para ocultar usuarios en los feeds")
+public class ExclusionController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExclusionController.class);
+
+    private final ExclusionService exclusionService;
+    private final UserRepository userRepository;
+
+    public ExclusionController(ExclusionService exclusionService, UserRepository userRepository) {
+        this.exclusionService = exclusionService;
+        this.userRepository = userRepository;
+    }
+
+    @PostMapping("/{userId}/mute")
+    @Operation(
+            summary = "Silenciar a un usuario",
+            description = "Oculta las publicaciones del usuario en los feeds del usuario autenticado. Es idempotente."
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Usuario silenciado"),
+            @ApiResponse(responseCode = "400", description = "Un usuario no puede silenciarse a sí mismo"),
+            @ApiResponse(responseCode = "404", description = "Usuario no encontrado")
+    })
+    public ResponseEntity<Void> mute(
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal UserDetails principal,
+            @Parameter(description = "ID del usuario a silenciar", example = "456e7890-e89b-12d3-a456-426614174001")
+            @PathVariable UUID userId) {
+        logger.debug("Silenciando al usuario {}", userId);
+        exclusionService.exclude(currentUser(principal).getId(), userId, ExclusionKind.MUTE);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/{userId}/mute")
+    @Operation(
+            summary = "Dejar de silenciar a un usuario",
+            description = "Vuelve a mostrar las publicaciones del usuario en los feeds. Es idempotente."
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Usuario ya no silenciado")
+    })
+    public ResponseEntity<Void> unmute(
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal UserDetails principal,
+            @Parameter(description = "ID del usuario", example = "456e7890-e89b-12d3-a456-426614174001")
+            @PathVariable UUID userId) {
+        logger.debug("Dejando de silenciar al usuario {}", userId);
+        exclusionService.include(currentUser(principal).getId(), userId, ExclusionKind.MUTE);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/{userId}/block")
+    @Operation(
+            summary = "Bloquear a un usuario",
+            description = "Oculta las publicaciones en ambos sentidos y deshace el seguimiento mutuo. Es idempotente."
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Usuario bloqueado"),
+            @ApiResponse(responseCode = "400", description = "Un usuario no puede bloquearse a sí mismo"),
+            @ApiResponse(responseCode = "404", description = "Usuario no encontrado")
+    })
+    public ResponseEntity<Void> block(
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal UserDetails principal,
+            @Parameter(description = "ID del usuario a bloquear", example = "456e7890-e89b-12d3-a456-426614174001")
+            @PathVariable UUID userId) {
+        logger.debug("Bloqueando al usuario {}", userId);
+        exclusionService.exclude(currentUser(principal).getId(), userId, ExclusionKind.BLOCK);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/{userId}/block")
+    @Operation(
+            summary = "Desbloquear a un usuario",
+            description = "Retira el bloqueo; el seguimiento deshecho no se restaura. Es idempotente."
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Usuario desbloqueado")
+    })
+    public ResponseEntity<Void> unblock(
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal UserDetails principal,
+            @Parameter(description = "ID del usuario", example = "456e7890-e89b-12d3-a456-426614174001")
+            @PathVariable UUID userId) {
+        logger.debug("Desbloqueando al usuario {}", userId);
+        exclusionService.include(currentUser(principal).getId(), userId, ExclusionKind.BLOCK);
+        return ResponseEntity.noContent().build();
+    }
+
+    private User currentUser(UserDetails principal) {
+        if (principal == null || principal.getUsername() == null) {
+            throw new AuthenticationException("No autenticado");
+        }
+        return userRepository.findByEmail(principal.getUsername().toLowerCase().trim())
+                .orElseThrow(() -> new ResourceNotFoundException("Usuario no encontrado"));
+    }
+}
@@ -0,0 +1,127 @@
+package com.redsocial.app.controller;
+
+import com.redsocial.app.dto.FollowStatsResponse;
+import com.redsocial.app.exception.AuthenticationException;
+import com.redsocial.app.exception.ResourceNotFoundException;
+import com.redsocial.app.model.User;
+import com.redsocial.app.repository.UserRepository;
+import com.redsocial.app.service.FollowService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/users")
+@Tag(name = "Seguimiento", description = "Endpoints para seguir y dejar de seguir usuarios")
+public class FollowController {
+
+    private static final Logger logger = LoggerFactory.getLogger(FollowController.class);
+
+    private final FollowService followService;
+    private final UserRepository userRepository;
+
+    public FollowController(FollowService followService, UserRepository userRepository) {
+        this.followService = followService;
+        this.userRepository = userRepository;
+    }
+
+    @PostMapping("/{userId}/follow")
+    @Operation(
+            summary = "Seguir a un usuario",
+            description = "El usuario autenticado pasa a seguir al usuario indicado. Es idempotente."
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Usuario seguido"),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Un usuario no puede seguirse a sí mismo",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            examples = @ExampleObject(
+                                    name = "Error de validación",
+                                    value = "{\"status\": 400, \"message\": \"Un usuario no puede seguirse a sí mismo\", \"timestamp\": \"2024-01-01T12:00:00\"}"
+                            )
+                    )
+            ),
+            @ApiResponse(responseCode = "404", description = "Usuario no encontrado")
+    })
+    public ResponseEntity<Void> follow(
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal UserDetails principal,
+            @Parameter(description = "ID del usuario a seguir", example = "456e7890-e89b-12d3-a456-426614174001")
+            @PathVariable UUID userId) {
+        logger.debug("Siguiendo al usuario {}", userId);
+        User user = currentUser(principal);
+        followService.follow(user.getId(), userId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/{userId}/follow")
+    @Operation(
+            summary = "Dejar de seguir a un usuario",
+            description = "El usuario autenticado deja de seguir al usuario indicado. Es idempotente."
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Usuario dejado de seguir")
+    })
+    public ResponseEntity<Void> unfollow(
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal UserDetails principal,
+            @Parameter(description = "ID del usuario a dejar de seguir", example = "456e7890-e89b-12d3-a456-426614174001")
+            @PathVariable UUID userId) {
+        logger.debug("Dejando de seguir al usuario {}", userId);
+        User user = currentUser(principal);
+        followService.unfollow(user.getId(), userId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/{userId}/follow-stats")
+    @Operation(
+            summary = "Obtener seguidores y seguidos de un usuario",
+            description = "Devuelve el número de seguidores y de usuarios seguidos, desde el índice en memoria"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Recuentos obtenidos exitosamente",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = FollowStatsResponse.class),
+                            examples = @ExampleObject(
+                                    name = "Recuentos",
+                                    value = "{\"userId\": \"456e7890-e89b-12d3-a456-426614174001\", \"followers\": 120, \"following\": 87}"
+                            )
+                    )
+            )
+    })
+    public ResponseEntity<FollowStatsResponse> stats(
+            @Parameter(description = "ID del usuario", example = "456e7890-e89b-12d3-a456-426614174001")
+            @PathVariable UUID userId) {
+        return ResponseEntity.ok(followService.stats(userId));
+    }
+
+    private User currentUser(UserDetails principal) {
+        if (principal == null || principal.getUsername() == null) {
+            throw new AuthenticationException("No autenticado");
+        }
+        return userRepository.findByEmail(principal.getUsername().toLowerCase().trim())
+                .orElseThrow(() -> new ResourceNotFoundException("Usuario no encontrado"));
+    }
+}
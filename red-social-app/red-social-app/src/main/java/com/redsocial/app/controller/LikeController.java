@@ -0,0 +1,86 @@
+package com.redsocial.app.controller;
+
+import com.redsocial.app.exception.AuthenticationException;
+import com.redsocial.app.exception.ResourceNotFoundException;
+import com.redsocial.app.model.User;
+import com.redsocial.app.repository.UserRepository;
+import com.redsocial.app.service.LikeService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/posts")
+@Tag(name = "Me gusta", description = "Endpoints para dar y quitar me gusta a publicaciones")
+public class LikeController {
+
+    private static final Logger logger = LoggerFactory.getLogger(LikeController.class);
+
+    private final LikeService likeService;
+    private final UserRepository userRepository;
+
+    public LikeController(LikeService likeService, UserRepository userRepository) {
+        this.likeService = likeService;
+        this.userRepository = userRepository;
+    }
+
+    @PostMapping("/{postId}/like")
+    @Operation(
+            summary = "Dar me gusta a una publicación",
+            description = "El usuario autenticado da me gusta a la publicación. Es idempotente."
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Me gusta registrado"),
+            @ApiResponse(responseCode = "401", description = "No autenticado o token inválido"),
+            @ApiResponse(responseCode = "404", description = "Post no encontrado")
+    })
+    public ResponseEntity<Void> like(
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal UserDetails principal,
+            @Parameter(description = "ID del post", example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID postId) {
+        logger.debug("Me gusta al post {}", postId);
+        likeService.like(currentUser(principal).getId(), postId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/{postId}/like")
+    @Operation(
+            summary = "Quitar me gusta a una publicación",
+            description = "El usuario autenticado retira su me gusta de la publicación. Es idempotente."
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Me gusta retirado"),
+            @ApiResponse(responseCode = "401", description = "No autenticado o token inválido")
+    })
+    public ResponseEntity<Void> unlike(
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal UserDetails principal,
+            @Parameter(description = "ID del post", example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID postId) {
+        logger.debug("Quitando me gusta al post {}", postId);
+        likeService.unlike(currentUser(principal).getId(), postId);
+        return ResponseEntity.noContent().build();
+    }
+
+    private User currentUser(UserDetails principal) {
+        if (principal == null || principal.getUsername() == null) {
+            throw new AuthenticationException("No autenticado");
+        }
+        return userRepository.findByEmail(principal.getUsername().toLowerCase().trim())
+                .orElseThrow(() -> new ResourceNotFoundException("Usuario no encontrado"));
+    }
+}
@@ -1,7 +1,11 @@
 package com.redsocial.app.controller;
 
+import com.redsocial.app.dto.BatchRequest;
+import com.redsocial.app.dto.BatchResponse;
 import com.redsocial.app.dto.CreatePostRequest;
+import com.redsocial.app.dto.CursorPage;
 import com.redsocial.app.dto.PostResponse;
+import com.redsocial.app.dto.PostViewsResponse;
 import com.redsocial.app.exception.AuthenticationException;
 import com.redsocial.app.exception.AuthorizationException;
 import com.redsocial.app.exception.ResourceNotFoundException;
@@ -9,6 +13,7 @@ import com.redsocial.app.exception.ValidationException;
 import com.redsocial.app.model.User;
 import com.redsocial.app.repository.UserRepository;
 import com.redsocial.app.service.PostService;
+import com.redsocial.app.service.ViewTrackingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -31,6 +36,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -44,10 +50,13 @@ public class PostController {
 
     private final PostService postService;
     private final UserRepository userRepository;
+    private final ViewTrackingService viewTrackingService;
 
-    public PostController(PostService postService, UserRepository userRepository) {
+    public PostController(PostService postService, UserRepository userRepository,
+                          ViewTrackingService viewTrackingService) {
         this.postService = postService;
         this.userRepository = userRepository;
+        this.viewTrackingService = viewTrackingService;
     }
 
     @PostMapping("/posts")
@@ -194,6 +203,173 @@ public class PostController {
         }
     }
 
+    @GetMapping("/posts/trending")
+    @Operation(
+            summary = "Listar publicaciones en tendencia",
+            description = "Obtiene las publicaciones con más interacción reciente (vistas, likes y creación, con decaimiento temporal), ordenadas por puntuación"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Lista de posts en tendencia obtenida exitosamente",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            examples = @ExampleObject(
+                                    name = "Posts en tendencia",
+                                    value = "[{\"id\": \"123e4567-e89b-12d3-a456-426614174000\", \"userId\": \"456e7890-e89b-12d3-a456-426614174001\", \"content\": \"Post popular\", \"likesCount\": 42, \"commentsCount\": 7}]"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Límite inválido",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            examples = @ExampleObject(
+                                    name = "Error de validación",
+                                    value = "{\"status\": 400, \"message\": \"El tamaño de página debe estar entre 1 y 100\", \"timestamp\": \"2024-01-01T12:00:00\"}"
+                            )
+                    )
+            )
+    })
+    public ResponseEntity<List<PostResponse>> listTrendingPosts(
+            @Parameter(description = "Número máximo de posts (1-100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit) {
+        logger.debug("Listando posts en tendencia - límite: {}", limit);
+
+        try {
+            validatePaginationParams(0, limit);
+
+            List<PostResponse> posts = postService.listTrending(limit);
+            logger.info("Se obtuvieron {} posts en tendencia", posts.size());
+
+            return ResponseEntity.ok(posts);
+
+        } catch (ValidationException e) {
+            logger.warn("Error de validación al listar posts en tendencia: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error inesperado al listar posts en tendencia: ", e);
+            throw new ValidationException("Error interno al listar posts en tendencia");
+        }
+    }
+
+    @GetMapping("/posts/following")
+    @Operation(
+            summary = "Feed de usuarios seguidos",
+            description = "Obtiene las publicaciones de los usuarios que sigue el usuario autenticado, de la más reciente a la más antigua. " +
+                    "Para la página siguiente se pasa el 'nextCursor' de la respuesta anterior; es nulo en la última página."
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Feed obtenido exitosamente",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            examples = @ExampleObject(
+                                    name = "Feed de seguidos",
+                                    value = "{\"items\": [{\"id\": \"123e4567-e89b-12d3-a456-426614174000\", \"userId\": \"456e7890-e89b-12d3-a456-426614174001\", \"content\": \"Post de alguien a quien sigo\", \"likesCount\": 3, \"commentsCount\": 1, \"createdAt\": \"2024-01-01T12:00:00Z\"}], \"nextCursor\": \"MTcwNDExMDQwMDowOjEyM2U0\"}"
+                            )
+                    )
+            ),
+            @ApiResponse(responseCode = "401", description = "No autenticado o token inválido")
+    })
+    public ResponseEntity<CursorPage<PostResponse>> listFollowingFeed(
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal UserDetails principal,
+            @Parameter(description = "Cursor devuelto en la página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamaño de página (1-100)", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+        logger.debug("Listando feed de seguidos - cursor: {}, tamaño: {}", cursor, size);
+
+        try {
+            validateAuthentication(principal);
+            validatePaginationParams(0, size);
+
+            User user = userRepository.findByEmail(principal.getUsername().toLowerCase().trim())
+                    .orElseThrow(() -> new ResourceNotFoundException("Usuario no encontrado"));
+
+            CursorPage<PostResponse> page = postService.listFollowing(user.getId(), cursor, size);
+            logger.info("Se obtuvieron {} posts del feed de seguidos", page.getItems().size());
+
+            return ResponseEntity.ok(page);
+
+        } catch (AuthenticationException | ResourceNotFoundException | ValidationException e) {
+            logger.warn("Error al listar el feed de seguidos: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error inesperado al listar el feed de seguidos: ", e);
+            throw new ValidationException("Error interno al listar el feed de seguidos");
+        }
+    }
+
+    @PostMapping("/posts/batch")
+    @Operation(
+            summary = "Obtener varias publicaciones por ID",
+            description = "Devuelve en una sola petición las publicaciones de los IDs indicados, en el mismo orden. " +
+                    "Los IDs inexistentes se devuelven en 'missing' en lugar de producir un error."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Publicaciones obtenidas exitosamente",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            examples = @ExampleObject(
+                                    name = "Lote de posts",
+                                    value = "{\"items\": [{\"id\": \"123e4567-e89b-12d3-a456-426614174000\", \"userId\": \"456e7890-e89b-12d3-a456-426614174001\", \"content\": \"Mi primer post\"}], \"missing\": []}"
+                            )
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Lista de IDs vacía o demasiado larga")
+    })
+    public ResponseEntity<BatchResponse<PostResponse>> getPostsByIds(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "IDs de publicación",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = BatchRequest.class))
+            )
+            @RequestBody BatchRequest request) {
+        logger.debug("Obteniendo lote de posts por ID");
+        return ResponseEntity.ok(postService.getByIds(request.getIds()));
+    }
+
+    @GetMapping("/posts/{postId}/views")
+    @Operation(
+            summary = "Obtener espectadores únicos de una publicación",
+            description = "Devuelve el número aproximado (HyperLogLog, error ~2 %) de usuarios autenticados distintos que han visto la publicación en el feed"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Recuento obtenido exitosamente",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = PostViewsResponse.class),
+                            examples = @ExampleObject(
+                                    name = "Espectadores únicos",
+                                    value = "{\"postId\": \"123e4567-e89b-12d3-a456-426614174000\", \"uniqueViewers\": 1280}"
+                            )
+                    )
+            )
+    })
+    public ResponseEntity<PostViewsResponse> getPostViews(
+            @Parameter(description = "ID único del post", example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID postId) {
+        logger.debug("Consultando espectadores únicos del post {}", postId);
+
+        try {
+            long uniqueViewers = viewTrackingService.uniqueViewers(postId);
+            return ResponseEntity.ok(new PostViewsResponse(postId, uniqueViewers));
+
+        } catch (Exception e) {
+            logger.error("Error inesperado al consultar las vistas del post {}: ", postId, e);
+            throw new ValidationException("Error interno al consultar las vistas del post");
+        }
+    }
+
     @GetMapping("/users/{userId}/posts")
     @Operation(
             summary = "Listar publicaciones de un usuario específico",
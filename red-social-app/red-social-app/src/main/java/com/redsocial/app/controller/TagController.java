@@ -0,0 +1,68 @@
+package com.redsocial.app.controller;
+
+import com.redsocial.app.dto.CursorPage;
+import com.redsocial.app.dto.PostResponse;
+import com.redsocial.app.exception.ValidationException;
+import com.redsocial.app.service.PostService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/tags")
+@Tag(name = "Hashtags", description = "Endpoints para consultar publicaciones por hashtag")
+public class TagController {
+
+    private static final Logger logger = LoggerFactory.getLogger(TagController.class);
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MIN_PAGE_SIZE = 1;
+
+    private final PostService postService;
+
+    public TagController(PostService postService) {
+        this.postService = postService;
+    }
+
+    @GetMapping("/{tag}/posts")
+    @Operation(
+            summary = "Listar publicaciones de un hashtag",
+            description = "Publicaciones que contienen el hashtag (sin '#', sin distinguir mayúsculas), de la más reciente a la más antigua. " +
+                    "Para la página siguiente se pasa el 'nextCursor' de la respuesta anterior; es nulo en la última página."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Publicaciones obtenidas exitosamente",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            examples = @ExampleObject(
+                                    name = "Página de publicaciones",
+                                    value = "{\"items\": [{\"id\": \"123e4567-e89b-12d3-a456-426614174000\", \"userId\": \"456e7890-e89b-12d3-a456-426614174001\", \"content\": \"Hola #mundo\"}], \"nextCursor\": \"MTcwNDExMDQwMDowOjEyM2U0\"}"
+                            )
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Hashtag, cursor o tamaño de página inválidos")
+    })
+    public ResponseEntity<CursorPage<PostResponse>> listPostsByTag(
+            @Parameter(description = "Hashtag sin '#'", example = "mundo")
+            @PathVariable String tag,
+            @Parameter(description = "Cursor devuelto en la página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamaño de página (1-100)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        logger.debug("Listando posts del hashtag {}", tag);
+        if (size < MIN_PAGE_SIZE || size > MAX_PAGE_SIZE) {
+            throw new ValidationException("El tamaño de página debe estar entre " + MIN_PAGE_SIZE + " y " + MAX_PAGE_SIZE);
+        }
+        return ResponseEntity.ok(postService.listByTag(tag, cursor, size));
+    }
+}
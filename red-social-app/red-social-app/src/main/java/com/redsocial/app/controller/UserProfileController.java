@@ -1,5 +1,7 @@
 package com.redsocial.app.controller;
 
+import com.redsocial.app.dto.BatchRequest;
+import com.redsocial.app.dto.BatchResponse;
 import com.redsocial.app.dto.UserProfileResponse;
 import com.redsocial.app.exception.ResourceNotFoundException;
 import com.redsocial.app.exception.UserProfileException;
@@ -143,6 +145,64 @@ public class UserProfileController {
         }
     }
 
+    @PostMapping("/batch")
+    @Operation(
+            summary = "Obtener varios perfiles por ID",
+            description = "Devuelve en una sola petición los perfiles de los IDs indicados, en el mismo orden. " +
+                    "Los IDs sin perfil se devuelven en 'missing' en lugar de producir un error."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Perfiles obtenidos exitosamente",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            examples = @ExampleObject(
+                                    name = "Lote de perfiles",
+                                    value = "{\"items\": [{\"id\": \"123e4567-e89b-12d3-a456-426614174000\", \"userId\": \"456e7890-e89b-12d3-a456-426614174001\", \"alias\": \"juanperez\"}], \"missing\": [\"789e0123-e89b-12d3-a456-426614174002\"]}"
+                            )
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Lista de IDs vacía o demasiado larga")
+    })
+    public ResponseEntity<BatchResponse<UserProfileResponse>> getByIds(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "IDs de perfil",
+                    required = true,
+                    content = @Content(
+                            schema = @Schema(implementation = BatchRequest.class),
+                            examples = @ExampleObject(
+                                    name = "IDs",
+                                    value = "{\"ids\": [\"123e4567-e89b-12d3-a456-426614174000\", \"789e0123-e89b-12d3-a456-426614174002\"]}"
+                            )
+                    )
+            )
+            @RequestBody BatchRequest request) {
+        logger.debug("Obteniendo lote de perfiles por ID");
+        return ResponseEntity.ok(userProfileService.getByIds(request.getIds()));
+    }
+
+    @PostMapping("/by-user/batch")
+    @Operation(
+            summary = "Obtener varios perfiles por ID de usuario",
+            description = "Devuelve en una sola petición los perfiles de los usuarios indicados, en el mismo orden. " +
+                    "Los usuarios sin perfil se devuelven en 'missing' en lugar de producir un error."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Perfiles obtenidos exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Lista de IDs vacía o demasiado larga")
+    })
+    public ResponseEntity<BatchResponse<UserProfileResponse>> getByUserIds(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "IDs de usuario",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = BatchRequest.class))
+            )
+            @RequestBody BatchRequest request) {
+        logger.debug("Obteniendo lote de perfiles por ID de usuario");
+        return ResponseEntity.ok(userProfileService.getByUserIds(request.getIds()));
+    }
+
     @GetMapping("/by-user/{userId}")
     @Operation(
             summary = "Obtener perfil por ID de usuario",
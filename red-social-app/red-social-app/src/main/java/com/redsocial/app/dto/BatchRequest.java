@@ -0,0 +1,19 @@
+package com.redsocial.app.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Lista de IDs para una consulta por lotes.
+ */
+public class BatchRequest {
+    private List<UUID> ids;
+
+    public BatchRequest() {}
+    public BatchRequest(List<UUID> ids) {
+        this.ids = ids;
+    }
+
+    public List<UUID> getIds() { return ids; }
+    public void setIds(List<UUID> ids) { this.ids = ids; }
+}
@@ -0,0 +1,25 @@
+package com.redsocial.app.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resultado de una consulta por lotes: los elementos encontrados, en el orden de los IDs pedidos,
+ * y los IDs que no existen.
+ */
+public class BatchResponse<T> {
+    private List<T> items;
+    private List<UUID> missing;
+
+    public BatchResponse() {}
+    public BatchResponse(List<T> items, List<UUID> missing) {
+        this.items = items;
+        this.missing = missing;
+    }
+
+    public List<T> getItems() { return items; }
+    public void setItems(List<T> items) { this.items = items; }
+
+    public List<UUID> getMissing() { return missing; }
+    public void setMissing(List<UUID> missing) { this.missing = missing; }
+}
@@ -0,0 +1,35 @@
+package com.redsocial.app.dto;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public class CommentResponse {
+    private UUID id;
+    private UUID postId;
+    private UUID parentId;
+    private UUID userId;
+    private String alias;
+    private String content;
+    private OffsetDateTime createdAt;
+
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+
+    public UUID getPostId() { return postId; }
+    public void setPostId(UUID postId) { this.postId = postId; }
+
+    public UUID getParentId() { return parentId; }
+    public void setParentId(UUID parentId) { this.parentId = parentId; }
+
+    public UUID getUserId() { return userId; }
+    public void setUserId(UUID userId) { this.userId = userId; }
+
+    public String getAlias() { return alias; }
+    public void setAlias(String alias) { this.alias = alias; }
+
+    public String getContent() { return content; }
+    public void setContent(String content) { this.content = content; }
+
+    public OffsetDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(OffsetDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,24 @@
+package com.redsocial.app.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.util.UUID;
+
+public class CreateCommentRequest {
+
+    @NotBlank
+    @Size(max = 2000)
+    private String content;
+
+    // Comentario al que se responde; nulo para un comentario de primer nivel
+    private UUID parentId;
+
+    public String getContent() {
+        return content;
+    }
+
+    public UUID getParentId() {
+        return parentId;
+    }
+}
@@ -0,0 +1,35 @@
+package com.redsocial.app.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Datos iniciales del panel del usuario autenticado en una sola respuesta. {@code profile} es nulo
+ * si el usuario aún no tiene perfil.
+ */
+public class DashboardResponse {
+    private UUID userId;
+    private String email;
+    private UserProfileResponse profile;
+    private List<PostResponse> feed;
+
+    public DashboardResponse() {}
+    public DashboardResponse(UUID userId, String email, UserProfileResponse profile, List<PostResponse> feed) {
+        this.userId = userId;
+        this.email = email;
+        this.profile = profile;
+        this.feed = feed;
+    }
+
+    public UUID getUserId() { return userId; }
+    public void setUserId(UUID userId) { this.userId = userId; }
+
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+
+    public UserProfileResponse getProfile() { return profile; }
+    public void setProfile(UserProfileResponse profile) { this.profile = profile; }
+
+    public List<PostResponse> getFeed() { return feed; }
+    public void setFeed(List<PostResponse> feed) { this.feed = feed; }
+}
@@ -0,0 +1,25 @@
+package com.redsocial.app.dto;
+
+import java.util.UUID;
+
+public class FollowStatsResponse {
+    private UUID userId;
+    private int followers;
+    private int following;
+
+    public FollowStatsResponse() {}
+    public FollowStatsResponse(UUID userId, int followers, int following) {
+        this.userId = userId;
+        this.followers = followers;
+        this.following = following;
+    }
+
+    public UUID getUserId() { return userId; }
+    public void setUserId(UUID userId) { this.userId = userId; }
+
+    public int getFollowers() { return followers; }
+    public void setFollowers(int followers) { this.followers = followers; }
+
+    public int getFollowing() { return following; }
+    public void setFollowing(int following) { this.following = following; }
+}
@@ -13,6 +13,8 @@ public class PostResponse {
     private OffsetDateTime createdAt;
     private OffsetDateTime updatedAt;
     private String alias;
+    // Nulo si la petición es anónima
+    private Boolean likedByMe;
 
     public PostResponse(UUID id, UUID userId, String content, String mediaUrl, Integer likesCount, Integer commentsCount, OffsetDateTime createdAt, OffsetDateTime updatedAt) {
         this.id = id;
@@ -70,4 +72,6 @@ public class PostResponse {
     public void setUpdatedAt(OffsetDateTime updatedAt) { this.updatedAt = updatedAt; }
     public String getAlias() { return alias; }
     public void setAlias(String alias) { this.alias = alias; }
+    public Boolean getLikedByMe() { return likedByMe; }
+    public void setLikedByMe(Boolean likedByMe) { this.likedByMe = likedByMe; }
 }
@@ -0,0 +1,20 @@
+package com.redsocial.app.dto;
+
+import java.util.UUID;
+
+public class PostViewsResponse {
+    private UUID postId;
+    private long uniqueViewers;
+
+    public PostViewsResponse() {}
+    public PostViewsResponse(UUID postId, long uniqueViewers) {
+        this.postId = postId;
+        this.uniqueViewers = uniqueViewers;
+    }
+
+    public UUID getPostId() { return postId; }
+    public void setPostId(UUID postId) { this.postId = postId; }
+
+    public long getUniqueViewers() { return uniqueViewers; }
+    public void setUniqueViewers(long uniqueViewers) { this.uniqueViewers = uniqueViewers; }
+}
@@ -0,0 +1,16 @@
+package com.redsocial.app.events;
+
+import java.util.Set;
+
+/**
+ * Consumidor que debe aplicar el evento en todas las instancias, no solo en la que lo entrega el
+ * {@link EventBus}: índices en memoria que cada nodo mantiene por su cuenta. Lo alimenta {@link OutboxTail},
+ * que puede entregar un mismo evento varias veces y fuera de orden; por eso el consumidor debe releer el
+ * estado de la base de datos en lugar de aplicar el cambio a ciegas.
+ */
+public interface BroadcastEventListener {
+
+    Set<String> eventTypes();
+
+    void onEvent(DomainEvent event);
+}
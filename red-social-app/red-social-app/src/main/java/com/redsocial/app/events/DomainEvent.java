@@ -0,0 +1,26 @@
+package com.redsocial.app.events;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Evento leído del outbox y entregado por el {@link EventBus}. El ID es el de la fila en
+ * {@code outbox_events}: tras una caída un mismo evento puede entregarse más de una vez.
+ */
+public record DomainEvent(long id, String aggregateType, UUID aggregateId, String type,
+                          JsonNode payload, OffsetDateTime occurredAt) {
+
+    public static final String POST = "Post";
+
+    public static final String POST_CREATED = "PostCreated";
+
+    public static final String POST_LIKED = "PostLiked";
+
+    public static final String USER = "User";
+
+    public static final String EXCLUSION_CHANGED = "ExclusionChanged";
+
+    public static final String FOLLOW_CHANGED = "FollowChanged";
+}
@@ -0,0 +1,13 @@
+package com.redsocial.app.events;
+
+/**
+ * Consumidor de eventos de dominio. Recibe los eventos de un mismo agregado en orden, desde un hilo
+ * del bus, y debe tolerar duplicados (entrega al menos una vez). Con varias instancias, cada evento llega
+ * a un solo nodo (ver {@link OutboxRelay}); lo que deba aplicarse en todos va por {@link BroadcastEventListener}.
+ */
+public interface DomainEventListener {
+
+    boolean supports(String eventType);
+
+    void onEvent(DomainEvent event);
+}
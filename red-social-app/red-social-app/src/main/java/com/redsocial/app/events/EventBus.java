@@ -0,0 +1,134 @@
+package com.redsocial.app.events;
+
+import com.redsocial.app.sketch.Hashing;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bus de eventos en proceso. Cada evento va al carril que le corresponde por el hash de su agregado:
+ * un carril es una cola acotada con un único hilo consumidor, así que los eventos de un mismo agregado
+ * se entregan en el orden en que se publicaron. Con la cola llena {@link #publish} espera hasta
+ * {@code app.events.offer-timeout-ms} y después rechaza el evento, frenando al relay del outbox.
+ */
+@Component
+public class EventBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventBus.class);
+
+    private record Delivery(DomainEvent event, Runnable onComplete) {
+    }
+
+    private final List<DomainEventListener> listeners;
+    private final List<BlockingQueue<Delivery>> lanes = new ArrayList<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private final Counter failed;
+    private final long offerTimeoutMs;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private volatile boolean running = true;
+
+    public EventBus(List<DomainEventListener> listeners,
+                    MeterRegistry meterRegistry,
+                    @Value("${app.events.lanes:4}") int laneCount,
+                    @Value("${app.events.lane-capacity:256}") int laneCapacity,
+                    @Value("${app.events.offer-timeout-ms:100}") long offerTimeoutMs,
+                    @Value("${app.events.max-attempts:3}") int maxAttempts,
+                    @Value("${app.events.retry-backoff-ms:200}") long retryBackoffMs) {
+        this.listeners = listeners;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+        this.failed = Counter.builder("app.events.failed")
+                .description("Entregas de eventos descartadas tras agotar los reintentos")
+                .register(meterRegistry);
+        for (int i = 0; i < laneCount; i++) {
+            BlockingQueue<Delivery> lane = new ArrayBlockingQueue<>(laneCapacity);
+            lanes.add(lane);
+            Thread worker = Thread.ofPlatform().name("event-bus-" + i).daemon().unstarted(() -> consume(lane));
+            workers.add(worker);
+            worker.start();
+        }
+        meterRegistry.gauge("app.events.queued", lanes, queues -> queues.stream().mapToInt(BlockingQueue::size).sum());
+    }
+
+    /**
+     * Encola el evento en su carril. {@code onComplete} se ejecuta en el hilo del carril cuando todos
+     * los consumidores lo han procesado (o se han agotado sus reintentos).
+     *
+     * @return false si el carril sigue lleno tras la espera o el bus se está deteniendo
+     */
+    public boolean publish(DomainEvent event, Runnable onComplete) throws InterruptedException {
+        if (!running) {
+            return false;
+        }
+        int lane = (int) Math.floorMod(Hashing.hash(event.aggregateId()), (long) lanes.size());
+        return lanes.get(lane).offer(new Delivery(event, onComplete), offerTimeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void consume(BlockingQueue<Delivery> lane) {
+        while (running) {
+            try {
+                Delivery delivery = lane.poll(500, TimeUnit.MILLISECONDS);
+                if (delivery != null) {
+                    deliver(delivery.event());
+                    delivery.onComplete().run();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.error("Error inesperado en el bus de eventos: ", e);
+            }
+        }
+    }
+
+    private void deliver(DomainEvent event) throws InterruptedException {
+        for (DomainEventListener listener : listeners) {
+            if (!listener.supports(event.type())) {
+                continue;
+            }
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    listener.onEvent(event);
+                    break;
+                } catch (Exception e) {
+                    if (attempt >= maxAttempts) {
+                        failed.increment();
+                        logger.error("Evento {} ({}) descartado para {} tras {} intentos: {}",
+                                event.id(), event.type(), listener.getClass().getSimpleName(), attempt, e.getMessage());
+                        break;
+                    }
+                    // Reintentar en el mismo hilo retiene el carril: los eventos posteriores del agregado esperan
+                    Thread.sleep(retryBackoffMs * attempt);
+                }
+            }
+        }
+    }
+
+    /**
+     * Los eventos que quedan en las colas no se marcan como publicados y se reentregan en el siguiente arranque.
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        for (Thread worker : workers) {
+            try {
+                worker.join(2000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.redsocial.app.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.redsocial.app.model.OutboxEvent;
+import com.redsocial.app.repository.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+
+/**
+ * Publica en el {@link EventBus} los eventos del outbox por lotes y en orden de ID. Un evento se marca
+ * como publicado cuando el bus confirma que todos los consumidores lo han procesado; los que no llegan
+ * a marcarse (caída, parada, bus lleno) se vuelven a leer, de modo que la entrega es al menos una vez.
+ * El cursor solo vive en memoria: tras un arranque se reentregan todos los eventos sin publicar.
+ * <p>
+ * Con varias instancias, cada evento lo entrega un solo nodo: antes de publicarlo en su bus, el relay lo reclama
+ * ({@code claimed_by}, {@code claimed_at}) en una transacción corta con {@code for update skip locked}. Los
+ * eventos reclamados por un nodo que no los publica en {@code app.outbox.claim-seconds} (caído, bus lleno)
+ * vuelven a estar disponibles para cualquier otro.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final String MARK_PUBLISHED_SQL = "update outbox_events set published_at = ? where id = ?";
+    private static final String PURGE_SQL = "delete from outbox_events where published_at < ?";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final EventBus eventBus;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final ConcurrentLinkedQueue<Long> completed = new ConcurrentLinkedQueue<>();
+    private final boolean enabled;
+    private final int batchSize;
+    private final int retentionDays;
+    private final long claimSeconds;
+    private long lastDispatchedId;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, EventBus eventBus,
+                       JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                       TransactionTemplate transactionTemplate,
+                       @Value("${app.outbox.enabled:true}") boolean enabled,
+                       @Value("${app.outbox.batch-size:200}") int batchSize,
+                       @Value("${app.outbox.retention-days:7}") int retentionDays,
+                       @Value("${app.outbox.claim-seconds:60}") long claimSeconds) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.eventBus = eventBus;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.retentionDays = retentionDays;
+        this.claimSeconds = claimSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:200}")
+    public synchronized void poll() {
+        if (!enabled) {
+            return;
+        }
+        markCompleted();
+        List<OutboxEvent> batch;
+        do {
+            batch = claim(expiredBefore -> outboxEventRepository.findClaimableAfter(
+                    lastDispatchedId, nodeId, expiredBefore, Limit.of(batchSize)));
+            for (OutboxEvent event : batch) {
+                if (!dispatch(event)) {
+                    // Bus lleno: el resto del lote se relee en el siguiente ciclo, sin romper el orden
+                    return;
+                }
+                lastDispatchedId = event.getId();
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    /**
+     * Un ID de identidad se asigna al insertar, no al confirmar: una transacción lenta puede confirmar un
+     * evento con ID menor que el cursor. Este barrido reentrega esos huecos.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.sweep-interval-ms:30000}")
+    public synchronized void sweep() {
+        if (!enabled || lastDispatchedId == 0) {
+            return;
+        }
+        markCompleted();
+        int redelivered = 0;
+        List<OutboxEvent> pending = claim(expiredBefore -> outboxEventRepository.findClaimableUpTo(
+                lastDispatchedId, nodeId, expiredBefore, Limit.of(batchSize)));
+        for (OutboxEvent event : pending) {
+            if (inFlight.contains(event.getId())) {
+                continue;
+            }
+            if (!dispatch(event)) {
+                return;
+            }
+            redelivered++;
+        }
+        if (redelivered > 0) {
+            logger.warn("Outbox: {} eventos reentregados fuera de orden por huecos de confirmación", redelivered);
+        }
+    }
+
+    @Scheduled(cron = "${app.outbox.purge-cron:0 15 3 * * *}")
+    public void purge() {
+        int deleted = jdbcTemplate.update(PURGE_SQL, OffsetDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            logger.info("Outbox: {} eventos publicados eliminados", deleted);
+        }
+    }
+
+    /**
+     * Reclama para este nodo los eventos que devuelve la consulta (bloqueados, sin esperar a los que otro nodo
+     * esté reclamando) y los devuelve para entregarlos. Reclamar de nuevo los propios renueva el plazo.
+     */
+    private List<OutboxEvent> claim(Function<OffsetDateTime, List<OutboxEvent>> query) {
+        return transactionTemplate.execute(status -> {
+            OffsetDateTime now = OffsetDateTime.now();
+            List<OutboxEvent> rows = query.apply(now.minusSeconds(claimSeconds));
+            for (OutboxEvent row : rows) {
+                row.setClaimedBy(nodeId);
+                row.setClaimedAt(now);
+            }
+            return rows;
+        });
+    }
+
+    private boolean dispatch(OutboxEvent row) {
+        long id = row.getId();
+        if (!inFlight.add(id)) {
+            return true;
+        }
+        DomainEvent event;
+        try {
+            event = new DomainEvent(id, row.getAggregateType(), row.getAggregateId(),
+                    row.getEventType(), objectMapper.readTree(row.getPayload()), row.getCreatedAt());
+        } catch (JsonProcessingException e) {
+            // Un payload corrupto no se arregla reintentando: se marca para no bloquear el carril
+            logger.error("Outbox: evento {} con payload ilegible descartado: {}", id, e.getMessage());
+            completed.add(id);
+            return true;
+        }
+        try {
+            if (eventBus.publish(event, () -> completed.add(id))) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        inFlight.remove(id);
+        return false;
+    }
+
+    private void markCompleted() {
+        List<Long> ids = new ArrayList<>();
+        Long id;
+        while ((id = completed.poll()) != null) {
+            ids.add(id);
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+        OffsetDateTime now = OffsetDateTime.now();
+        try {
+            jdbcTemplate.batchUpdate(MARK_PUBLISHED_SQL, ids.stream().map(eventId -> new Object[]{now, eventId}).toList());
+        } catch (Exception e) {
+            logger.warn("Outbox: no se pudieron marcar {} eventos como publicados: {}", ids.size(), e.getMessage());
+            completed.addAll(ids);
+            return;
+        }
+        ids.forEach(inFlight::remove);
+    }
+}
@@ -0,0 +1,113 @@
+package com.redsocial.app.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.redsocial.app.model.OutboxEvent;
+import com.redsocial.app.repository.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Difusión de eventos del outbox a todas las instancias. {@link OutboxRelay} entrega cada evento en un solo
+ * nodo (el que lo reclama); este componente, en cambio, sigue en cada nodo los eventos
+ * de los tipos que piden los {@link BroadcastEventListener}, estén publicados o no, y se los entrega
+ * directamente. Empieza por el final del outbox (los índices se cargan completos al arrancar) y un barrido
+ * periódico relee la ventana {@code app.outbox.broadcast.rescan-seconds}, para cubrir los eventos que una
+ * transacción lenta confirmó con un ID menor que el cursor.
+ */
+@Component
+public class OutboxTail {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxTail.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final List<BroadcastEventListener> listeners;
+    private final Set<String> eventTypes;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long rescanSeconds;
+    private long lastSeenId = -1;
+
+    public OutboxTail(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper,
+                      List<BroadcastEventListener> listeners,
+                      @Value("${app.outbox.enabled:true}") boolean enabled,
+                      @Value("${app.outbox.batch-size:200}") int batchSize,
+                      @Value("${app.outbox.broadcast.rescan-seconds:60}") long rescanSeconds) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.listeners = listeners;
+        this.eventTypes = listeners.stream().flatMap(listener -> listener.eventTypes().stream()).collect(Collectors.toSet());
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.rescanSeconds = rescanSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.broadcast.poll-interval-ms:500}")
+    public synchronized void poll() {
+        if (!enabled || eventTypes.isEmpty()) {
+            return;
+        }
+        if (lastSeenId < 0) {
+            lastSeenId = outboxEventRepository.findMaxId();
+            return;
+        }
+        List<OutboxEvent> batch;
+        do {
+            batch = outboxEventRepository.findByTypeAfter(eventTypes, lastSeenId, Limit.of(batchSize));
+            for (OutboxEvent event : batch) {
+                apply(event);
+                lastSeenId = event.getId();
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.broadcast.sweep-interval-ms:10000}")
+    public synchronized void sweep() {
+        if (!enabled || eventTypes.isEmpty()) {
+            return;
+        }
+        OffsetDateTime since = OffsetDateTime.now().minusSeconds(rescanSeconds);
+        long afterId = 0;
+        List<OutboxEvent> batch;
+        do {
+            batch = outboxEventRepository.findByTypeCreatedSince(eventTypes, since, afterId, Limit.of(batchSize));
+            for (OutboxEvent event : batch) {
+                apply(event);
+                afterId = event.getId();
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    private void apply(OutboxEvent row) {
+        DomainEvent event;
+        try {
+            event = new DomainEvent(row.getId(), row.getAggregateType(), row.getAggregateId(),
+                    row.getEventType(), objectMapper.readTree(row.getPayload()), row.getCreatedAt());
+        } catch (JsonProcessingException e) {
+            logger.error("Outbox: evento {} con payload ilegible descartado: {}", row.getId(), e.getMessage());
+            return;
+        }
+        for (BroadcastEventListener listener : listeners) {
+            if (!listener.eventTypes().contains(event.type())) {
+                continue;
+            }
+            try {
+                listener.onEvent(event);
+            } catch (Exception e) {
+                // El barrido lo vuelve a intentar mientras el evento siga dentro de la ventana
+                logger.warn("No se pudo aplicar el evento {} ({}) en {}: {}",
+                        event.id(), event.type(), listener.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+}
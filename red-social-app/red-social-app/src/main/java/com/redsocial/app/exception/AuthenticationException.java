@@ -2,14 +2,15 @@ package com.redsocial.app.exception;
 
 /**
  * Excepción específica para errores de autenticación.
+ * Sin traza de pila: los logins fallidos son frecuentes y baratos de producir para un atacante.
  */
 public class AuthenticationException extends RuntimeException {
     
     public AuthenticationException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
     
     public AuthenticationException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 }
@@ -2,14 +2,15 @@ package com.redsocial.app.exception;
 
 /**
  * Excepción específica para errores de autorización.
+ * No captura la traza de pila; la respuesta solo usa el mensaje.
  */
 public class AuthorizationException extends RuntimeException {
     
     public AuthorizationException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
     
     public AuthorizationException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 }
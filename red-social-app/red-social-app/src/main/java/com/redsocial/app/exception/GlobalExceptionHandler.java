@@ -1,5 +1,6 @@
 package com.redsocial.app.exception;
 
+import com.redsocial.app.monitoring.RequestTiming;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -29,16 +30,10 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleResourceNotFoundException(
             ResourceNotFoundException ex, WebRequest request) {
         
+        long start = RequestTiming.start();
         logger.warn("Recurso no encontrado: {}", ex.getMessage());
         
-        ErrorResponse errorResponse = new ErrorResponse(
-                HttpStatus.NOT_FOUND.value(),
-                ex.getMessage(),
-                request.getDescription(false),
-                LocalDateTime.now()
-        );
-        
-        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+        return buildResponse(HttpStatus.NOT_FOUND, ex.getMessage(), request, ex, start);
     }
 
     /**
@@ -48,16 +43,10 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleValidationException(
             ValidationException ex, WebRequest request) {
         
+        long start = RequestTiming.start();
         logger.warn("Error de validación: {}", ex.getMessage());
         
-        ErrorResponse errorResponse = new ErrorResponse(
-                HttpStatus.BAD_REQUEST.value(),
-                ex.getMessage(),
-                request.getDescription(false),
-                LocalDateTime.now()
-        );
-        
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        return buildResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), request, ex, start);
     }
 
     /**
@@ -67,16 +56,10 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handlePostException(
             PostException ex, WebRequest request) {
         
+        long start = RequestTiming.start();
         logger.error("Error en operación de post: {}", ex.getMessage());
         
-        ErrorResponse errorResponse = new ErrorResponse(
-                HttpStatus.BAD_REQUEST.value(),
-                ex.getMessage(),
-                request.getDescription(false),
-                LocalDateTime.now()
-        );
-        
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        return buildResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), request, ex, start);
     }
 
     /**
@@ -86,16 +69,10 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleUserProfileException(
             UserProfileException ex, WebRequest request) {
         
+        long start = RequestTiming.start();
         logger.error("Error en operación de perfil de usuario: {}", ex.getMessage());
         
-        ErrorResponse errorResponse = new ErrorResponse(
-                HttpStatus.BAD_REQUEST.value(),
-                ex.getMessage(),
-                request.getDescription(false),
-                LocalDateTime.now()
-        );
-        
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        return buildResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), request, ex, start);
     }
 
     /**
@@ -105,16 +82,10 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleAuthenticationException(
             AuthenticationException ex, WebRequest request) {
         
+        long start = RequestTiming.start();
         logger.warn("Error de autenticación: {}", ex.getMessage());
         
-        ErrorResponse errorResponse = new ErrorResponse(
-                HttpStatus.UNAUTHORIZED.value(),
-                ex.getMessage(),
-                request.getDescription(false),
-                LocalDateTime.now()
-        );
-        
-        return new ResponseEntity<>(errorResponse, HttpStatus.UNAUTHORIZED);
+        return buildResponse(HttpStatus.UNAUTHORIZED, ex.getMessage(), request, ex, start);
     }
 
     /**
@@ -124,16 +95,23 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleAuthorizationException(
             AuthorizationException ex, WebRequest request) {
         
+        long start = RequestTiming.start();
         logger.warn("Error de autorización: {}", ex.getMessage());
         
-        ErrorResponse errorResponse = new ErrorResponse(
-                HttpStatus.FORBIDDEN.value(),
-                ex.getMessage(),
-                request.getDescription(false),
-                LocalDateTime.now()
-        );
-        
-        return new ResponseEntity<>(errorResponse, HttpStatus.FORBIDDEN);
+        return buildResponse(HttpStatus.FORBIDDEN, ex.getMessage(), request, ex, start);
+    }
+
+    /**
+     * Maneja las operaciones que no se pueden completar ahora.
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(
+            ServiceUnavailableException ex, WebRequest request) {
+
+        long start = RequestTiming.start();
+        logger.warn("Servicio no disponible: {}", ex.getMessage());
+
+        return buildResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), request, ex, start);
     }
 
     /**
@@ -169,16 +147,27 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleGenericException(
             Exception ex, WebRequest request) {
         
+        long start = RequestTiming.start();
         logger.error("Error interno del servidor: ", ex);
         
+        return buildResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Error interno del servidor", request, ex, start);
+    }
+
+    /**
+     * Construye la respuesta de error estándar y registra la fase "error" en el desglose de la petición.
+     */
+    private ResponseEntity<ErrorResponse> buildResponse(
+            HttpStatus status, String message, WebRequest request, Exception ex, long start) {
+
         ErrorResponse errorResponse = new ErrorResponse(
-                HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                "Error interno del servidor",
+                status.value(),
+                message,
                 request.getDescription(false),
                 LocalDateTime.now()
         );
-        
-        return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+
+        RequestTiming.stop("error", start, ex.getClass().getSimpleName());
+        return new ResponseEntity<>(errorResponse, status);
     }
 
     /**
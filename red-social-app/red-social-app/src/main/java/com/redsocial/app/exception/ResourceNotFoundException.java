@@ -2,14 +2,15 @@ package com.redsocial.app.exception;
 
 /**
  * Excepción lanzada cuando un recurso no se encuentra en la base de datos.
+ * No captura la traza de pila (la causa, si existe, conserva la suya).
  */
 public class ResourceNotFoundException extends RuntimeException {
     
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
     
     public ResourceNotFoundException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 }
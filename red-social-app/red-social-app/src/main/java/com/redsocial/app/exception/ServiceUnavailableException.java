@@ -0,0 +1,16 @@
+package com.redsocial.app.exception;
+
+/**
+ * Excepción para operaciones que no se pueden completar ahora (por ejemplo, por superar su plazo).
+ * No captura la traza de pila; la respuesta solo usa el mensaje.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message, null, false, false);
+    }
+
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+}
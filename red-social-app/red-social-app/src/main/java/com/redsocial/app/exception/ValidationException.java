@@ -2,14 +2,15 @@ package com.redsocial.app.exception;
 
 /**
  * Excepción lanzada cuando los datos de entrada no son válidos.
+ * Es un error esperado del cliente, por lo que no captura la traza de pila.
  */
 public class ValidationException extends RuntimeException {
     
     public ValidationException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
     
     public ValidationException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 }
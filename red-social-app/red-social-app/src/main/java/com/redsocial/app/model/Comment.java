@@ -0,0 +1,58 @@
+package com.redsocial.app.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Comentario de un post. Las respuestas apuntan a su comentario padre ({@code parent_id});
+ * los comentarios de primer nivel no tienen padre.
+ */
+@Entity
+@Table(name = "comments",
+       indexes = {
+               @Index(name = "idx_comments_post_created", columnList = "post_id, created_at, id"),
+               @Index(name = "idx_comments_parent_created", columnList = "parent_id, created_at, id")
+       })
+public class Comment {
+
+    @Id
+    @GeneratedValue
+    @Column(columnDefinition = "UUID")
+    private UUID id;
+
+    @Column(name = "post_id", nullable = false, updatable = false, columnDefinition = "UUID")
+    private UUID postId;
+
+    @Column(name = "parent_id", updatable = false, columnDefinition = "UUID")
+    private UUID parentId;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false, updatable = false, columnDefinition = "UUID")
+    private User user;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @CreationTimestamp
+    @Column(name = "created_at", columnDefinition = "TIMESTAMP WITH TIME ZONE", updatable = false)
+    private OffsetDateTime createdAt;
+
+    public UUID getId() { return id; }
+
+    public UUID getPostId() { return postId; }
+    public void setPostId(UUID postId) { this.postId = postId; }
+
+    public UUID getParentId() { return parentId; }
+    public void setParentId(UUID parentId) { this.parentId = parentId; }
+
+    public User getUser() { return user; }
+    public void setUser(User user) { this.user = user; }
+
+    public String getContent() { return content; }
+    public void setContent(String content) { this.content = content; }
+
+    public OffsetDateTime getCreatedAt() { return createdAt; }
+}
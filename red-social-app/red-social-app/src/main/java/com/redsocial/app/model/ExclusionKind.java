@@ -0,0 +1,10 @@
+package com.redsocial.app.model;
+
+/**
+ * Tipo de exclusión entre usuarios: silenciar oculta los posts del otro en mis feeds; bloquear los oculta
+ * en ambos sentidos y deshace el seguimiento mutuo.
+ */
+public enum ExclusionKind {
+    MUTE,
+    BLOCK
+}
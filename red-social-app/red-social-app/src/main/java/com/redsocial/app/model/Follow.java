@@ -0,0 +1,46 @@
+package com.redsocial.app.model;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Relación "sigue a": {@code follower} sigue a {@code followee}.
+ */
+@Entity
+@Table(name = "follows",
+       indexes = @Index(name = "idx_follows_followee", columnList = "followee_id"))
+public class Follow implements Persistable<FollowId> {
+
+    @EmbeddedId
+    private FollowId id;
+
+    @Column(name = "created_at", nullable = false, updatable = false, columnDefinition = "TIMESTAMP WITH TIME ZONE")
+    private OffsetDateTime createdAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    public Follow() {
+    }
+
+    public Follow(FollowId id) {
+        this.id = id;
+        this.createdAt = OffsetDateTime.now();
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public FollowId getId() { return id; }
+
+    @Override
+    public boolean isNew() { return isNew; }
+
+    public OffsetDateTime getCreatedAt() { return createdAt; }
+}
@@ -44,6 +44,10 @@ public class Post {
         return id;
     }
 
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
     public User getUser() {
         return user;
     }
@@ -88,7 +92,15 @@ public class Post {
         return createdAt;
     }
 
+    public void setCreatedAt(OffsetDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
     public OffsetDateTime getUpdatedAt() {
         return updatedAt;
     }
+
+    public void setUpdatedAt(OffsetDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
 }
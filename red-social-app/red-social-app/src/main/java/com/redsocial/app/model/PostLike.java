@@ -0,0 +1,46 @@
+package com.redsocial.app.model;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.OffsetDateTime;
+
+/**
+ * "Me gusta" de un usuario en un post.
+ */
+@Entity
+@Table(name = "post_likes",
+       indexes = @Index(name = "idx_post_likes_post", columnList = "post_id"))
+public class PostLike implements Persistable<PostLikeId> {
+
+    @EmbeddedId
+    private PostLikeId id;
+
+    @Column(name = "created_at", nullable = false, updatable = false, columnDefinition = "TIMESTAMP WITH TIME ZONE")
+    private OffsetDateTime createdAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    public PostLike() {
+    }
+
+    public PostLike(PostLikeId id) {
+        this.id = id;
+        this.createdAt = OffsetDateTime.now();
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public PostLikeId getId() { return id; }
+
+    @Override
+    public boolean isNew() { return isNew; }
+
+    public OffsetDateTime getCreatedAt() { return createdAt; }
+}
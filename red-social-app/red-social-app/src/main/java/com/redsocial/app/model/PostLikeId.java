@@ -0,0 +1,41 @@
+package com.redsocial.app.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+@Embeddable
+public class PostLikeId implements Serializable {
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Column(name = "post_id", nullable = false, updatable = false)
+    private UUID postId;
+
+    public PostLikeId() {
+    }
+
+    public PostLikeId(UUID userId, UUID postId) {
+        this.userId = userId;
+        this.postId = postId;
+    }
+
+    public UUID getUserId() { return userId; }
+    public UUID getPostId() { return postId; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PostLikeId other)) return false;
+        return Objects.equals(userId, other.userId) && Objects.equals(postId, other.postId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, postId);
+    }
+}
@@ -0,0 +1,46 @@
+package com.redsocial.app.model;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Mención de un usuario en un post. Solo se guardan las menciones de alias existentes, resueltas al publicar.
+ */
+@Entity
+@Table(name = "post_mentions",
+       indexes = @Index(name = "idx_post_mentions_user_created", columnList = "user_id, created_at, post_id"))
+public class PostMention implements Persistable<PostMentionId> {
+
+    @EmbeddedId
+    private PostMentionId id;
+
+    @Column(name = "created_at", nullable = false, updatable = false, columnDefinition = "TIMESTAMP WITH TIME ZONE")
+    private OffsetDateTime createdAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    public PostMention() {
+    }
+
+    public PostMention(PostMentionId id, OffsetDateTime createdAt) {
+        this.id = id;
+        this.createdAt = createdAt;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public PostMentionId getId() { return id; }
+
+    @Override
+    public boolean isNew() { return isNew; }
+
+    public OffsetDateTime getCreatedAt() { return createdAt; }
+}
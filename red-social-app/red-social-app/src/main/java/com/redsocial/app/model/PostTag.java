@@ -0,0 +1,47 @@
+package com.redsocial.app.model;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Entrada del índice invertido de hashtags. {@code createdAt} es la fecha del post, copiada para paginar
+ * por clave (created_at, post_id) sin unir con {@code posts}.
+ */
+@Entity
+@Table(name = "post_tags",
+       indexes = @Index(name = "idx_post_tags_tag_created", columnList = "tag, created_at, post_id"))
+public class PostTag implements Persistable<PostTagId> {
+
+    @EmbeddedId
+    private PostTagId id;
+
+    @Column(name = "created_at", nullable = false, updatable = false, columnDefinition = "TIMESTAMP WITH TIME ZONE")
+    private OffsetDateTime createdAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    public PostTag() {
+    }
+
+    public PostTag(PostTagId id, OffsetDateTime createdAt) {
+        this.id = id;
+        this.createdAt = createdAt;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public PostTagId getId() { return id; }
+
+    @Override
+    public boolean isNew() { return isNew; }
+
+    public OffsetDateTime getCreatedAt() { return createdAt; }
+}
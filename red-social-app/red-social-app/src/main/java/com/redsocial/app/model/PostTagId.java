@@ -0,0 +1,41 @@
+package com.redsocial.app.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+@Embeddable
+public class PostTagId implements Serializable {
+
+    @Column(name = "tag", nullable = false, length = 50, updatable = false)
+    private String tag;
+
+    @Column(name = "post_id", nullable = false, updatable = false)
+    private UUID postId;
+
+    public PostTagId() {
+    }
+
+    public PostTagId(String tag, UUID postId) {
+        this.tag = tag;
+        this.postId = postId;
+    }
+
+    public String getTag() { return tag; }
+    public UUID getPostId() { return postId; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PostTagId other)) return false;
+        return Objects.equals(tag, other.tag) && Objects.equals(postId, other.postId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tag, postId);
+    }
+}
@@ -0,0 +1,51 @@
+package com.redsocial.app.model;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Sketch HyperLogLog serializado con los espectadores únicos de un post. Va en su propia tabla
+ * para que las lecturas del feed no carguen estos bytes.
+ */
+@Entity
+@Table(name = "post_view_sketches")
+public class PostViewSketch implements Persistable<UUID> {
+
+    @Id
+    @Column(name = "post_id", nullable = false, updatable = false)
+    private UUID postId;
+
+    @Column(name = "registers", nullable = false, length = 4096)
+    private byte[] registers;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "TIMESTAMP WITH TIME ZONE")
+    private OffsetDateTime updatedAt;
+
+    // El ID es asignado: sin esta marca, save() haría un SELECT previo por cada fila nueva
+    @Transient
+    private boolean isNew = true;
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public UUID getId() { return postId; }
+
+    @Override
+    public boolean isNew() { return isNew; }
+
+    public UUID getPostId() { return postId; }
+    public void setPostId(UUID postId) { this.postId = postId; }
+
+    public byte[] getRegisters() { return registers; }
+    public void setRegisters(byte[] registers) { this.registers = registers; }
+
+    public OffsetDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(OffsetDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
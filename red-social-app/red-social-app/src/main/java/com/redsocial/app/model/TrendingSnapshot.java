@@ -0,0 +1,33 @@
+package com.redsocial.app.model;
+
+import jakarta.persistence.*;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Última instantánea del ranking de tendencias: una fila por post del top-K con su puntuación decaída.
+ */
+@Entity
+@Table(name = "trending_snapshots")
+public class TrendingSnapshot {
+
+    @Id
+    @Column(name = "post_id", nullable = false, updatable = false)
+    private UUID postId;
+
+    @Column(name = "score", nullable = false)
+    private double score;
+
+    @Column(name = "captured_at", nullable = false, columnDefinition = "TIMESTAMP WITH TIME ZONE")
+    private OffsetDateTime capturedAt;
+
+    public UUID getPostId() { return postId; }
+    public void setPostId(UUID postId) { this.postId = postId; }
+
+    public double getScore() { return score; }
+    public void setScore(double score) { this.score = score; }
+
+    public OffsetDateTime getCapturedAt() { return capturedAt; }
+    public void setCapturedAt(OffsetDateTime capturedAt) { this.capturedAt = capturedAt; }
+}
@@ -0,0 +1,46 @@
+package com.redsocial.app.model;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.OffsetDateTime;
+
+/**
+ * {@code user} silencia o bloquea a {@code target}.
+ */
+@Entity
+@Table(name = "user_exclusions",
+       indexes = @Index(name = "idx_user_exclusions_target", columnList = "target_id"))
+public class UserExclusion implements Persistable<UserExclusionId> {
+
+    @EmbeddedId
+    private UserExclusionId id;
+
+    @Column(name = "created_at", nullable = false, updatable = false, columnDefinition = "TIMESTAMP WITH TIME ZONE")
+    private OffsetDateTime createdAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    public UserExclusion() {
+    }
+
+    public UserExclusion(UserExclusionId id) {
+        this.id = id;
+        this.createdAt = OffsetDateTime.now();
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public UserExclusionId getId() { return id; }
+
+    @Override
+    public boolean isNew() { return isNew; }
+
+    public OffsetDateTime getCreatedAt() { return createdAt; }
+}
@@ -0,0 +1,49 @@
+package com.redsocial.app.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+@Embeddable
+public class UserExclusionId implements Serializable {
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Column(name = "target_id", nullable = false, updatable = false)
+    private UUID targetId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", nullable = false, length = 10, updatable = false)
+    private ExclusionKind kind;
+
+    public UserExclusionId() {
+    }
+
+    public UserExclusionId(UUID userId, UUID targetId, ExclusionKind kind) {
+        this.userId = userId;
+        this.targetId = targetId;
+        this.kind = kind;
+    }
+
+    public UUID getUserId() { return userId; }
+    public UUID getTargetId() { return targetId; }
+    public ExclusionKind getKind() { return kind; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof UserExclusionId other)) return false;
+        return Objects.equals(userId, other.userId) && Objects.equals(targetId, other.targetId) && kind == other.kind;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, targetId, kind);
+    }
+}
@@ -1,6 +1,9 @@
 package com.redsocial.app.model;
 
+import com.redsocial.app.config.CacheConfig;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
@@ -12,6 +15,8 @@ import java.util.UUID;
            @UniqueConstraint(name = "uk_user_profiles_user_id", columnNames = "user_id"),
            @UniqueConstraint(name = "uk_user_profiles_alias", columnNames = "alias")
        })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.USER_PROFILES_REGION)
 public class UserProfile {
 
     @Id
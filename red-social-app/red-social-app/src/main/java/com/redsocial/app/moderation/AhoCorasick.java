@@ -0,0 +1,152 @@
+package com.redsocial.app.moderation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Autómata de Aho-Corasick: encuentra todas las apariciones de un conjunto de patrones en una sola pasada
+ * sobre el texto, en tiempo lineal en la longitud del texto más el número de coincidencias, sea cual sea
+ * el número de patrones. La comparación no distingue mayúsculas. Es inmutable una vez construido.
+ */
+public final class AhoCorasick {
+
+    @FunctionalInterface
+    public interface MatchHandler {
+        /**
+         * @param pattern índice del patrón en la lista de construcción
+         * @param start   posición del primer carácter de la coincidencia
+         * @param end     posición siguiente al último carácter
+         */
+        void onMatch(int pattern, int start, int end);
+    }
+
+    private static final int ROOT = 0;
+    private static final int[] NO_OUTPUT = new int[0];
+
+    // Transiciones de cada nodo como arrays ordenados (búsqueda binaria) en lugar de un mapa por nodo
+    private final char[][] keys;
+    private final int[][] targets;
+    private final int[] fail;
+    private final int[][] outputs;
+    private final int[] lengths;
+
+    private AhoCorasick(char[][] keys, int[][] targets, int[] fail, int[][] outputs, int[] lengths) {
+        this.keys = keys;
+        this.targets = targets;
+        this.fail = fail;
+        this.outputs = outputs;
+        this.lengths = lengths;
+    }
+
+    public static AhoCorasick build(List<String> patterns) {
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        List<int[]> nodeOutputs = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        nodeOutputs.add(NO_OUTPUT);
+        int[] lengths = new int[patterns.size()];
+
+        for (int p = 0; p < patterns.size(); p++) {
+            String pattern = patterns.get(p).toLowerCase(Locale.ROOT);
+            if (pattern.isEmpty()) {
+                throw new IllegalArgumentException("Patrón vacío en la posición " + p);
+            }
+            lengths[p] = pattern.length();
+            int node = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                Integer next = trie.get(node).get(pattern.charAt(i));
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    nodeOutputs.add(NO_OUTPUT);
+                    trie.get(node).put(pattern.charAt(i), next);
+                }
+                node = next;
+            }
+            nodeOutputs.set(node, append(nodeOutputs.get(node), p));
+        }
+
+        int size = trie.size();
+        char[][] keys = new char[size][];
+        int[][] targets = new int[size][];
+        for (int node = 0; node < size; node++) {
+            Map<Character, Integer> edges = trie.get(node);
+            keys[node] = new char[edges.size()];
+            targets[node] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                keys[node][i] = edge.getKey();
+                targets[node][i++] = edge.getValue();
+            }
+        }
+
+        // Enlaces de fallo en anchura: cada nodo hereda las salidas de su sufijo propio más largo
+        int[] fail = new int[size];
+        int[][] outputs = nodeOutputs.toArray(new int[0][]);
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[ROOT]) {
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < keys[node].length; i++) {
+                int child = targets[node][i];
+                int f = fail[node];
+                int next;
+                while ((next = step(keys, targets, f, keys[node][i])) < 0 && f != ROOT) {
+                    f = fail[f];
+                }
+                fail[child] = next < 0 ? ROOT : next;
+                if (outputs[fail[child]].length > 0) {
+                    outputs[child] = concat(outputs[child], outputs[fail[child]]);
+                }
+                queue.add(child);
+            }
+        }
+        return new AhoCorasick(keys, targets, fail, outputs, lengths);
+    }
+
+    public void search(CharSequence text, MatchHandler handler) {
+        int node = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            int next;
+            while ((next = step(keys, targets, node, c)) < 0 && node != ROOT) {
+                node = fail[node];
+            }
+            node = next < 0 ? ROOT : next;
+            for (int pattern : outputs[node]) {
+                handler.onMatch(pattern, i + 1 - lengths[pattern], i + 1);
+            }
+        }
+    }
+
+    public int patternCount() {
+        return lengths.length;
+    }
+
+    public int nodeCount() {
+        return fail.length;
+    }
+
+    private static int step(char[][] keys, int[][] targets, int node, char c) {
+        int index = Arrays.binarySearch(keys[node], c);
+        return index < 0 ? -1 : targets[node][index];
+    }
+
+    private static int[] append(int[] values, int value) {
+        int[] result = Arrays.copyOf(values, values.length + 1);
+        result[values.length] = value;
+        return result;
+    }
+
+    private static int[] concat(int[] a, int[] b) {
+        int[] result = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        return result;
+    }
+}
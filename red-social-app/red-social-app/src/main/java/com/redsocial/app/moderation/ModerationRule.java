@@ -0,0 +1,50 @@
+package com.redsocial.app.moderation;
+
+import java.util.Locale;
+
+/**
+ * Regla del fichero de moderación, una por línea: {@code <accion> <tipo> <patron>}.
+ * <ul>
+ *     <li>accion: {@code block} rechaza el post, {@code flag} lo deja pasar y lo registra.</li>
+ *     <li>tipo: {@code word} exige límite de palabra a ambos lados, {@code text} coincide en cualquier
+ *     posición (dominios, fragmentos de URL).</li>
+ *     <li>patron: el resto de la línea; puede contener espacios.</li>
+ * </ul>
+ * Las líneas vacías y las que empiezan por {@code #} se ignoran.
+ */
+public record ModerationRule(Action action, Kind kind, String pattern) {
+
+    public enum Action { BLOCK, FLAG }
+
+    public enum Kind { WORD, TEXT }
+
+    /**
+     * @return la regla, o {@code null} si la línea es un comentario o está vacía
+     * @throws IllegalArgumentException si la línea no tiene el formato esperado
+     */
+    public static ModerationRule parse(String line) {
+        String trimmed = line.strip();
+        if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+            return null;
+        }
+        String[] parts = trimmed.split("\\s+", 3);
+        if (parts.length < 3) {
+            throw new IllegalArgumentException("Se esperaba '<accion> <tipo> <patron>': " + trimmed);
+        }
+        return new ModerationRule(
+                Action.valueOf(parts[0].toUpperCase(Locale.ROOT)),
+                Kind.valueOf(parts[1].toUpperCase(Locale.ROOT)),
+                parts[2].toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Comprueba los límites de palabra de una coincidencia en {@code [start, end)} cuando la regla los exige.
+     */
+    public boolean accepts(CharSequence text, int start, int end) {
+        if (kind == Kind.TEXT) {
+            return true;
+        }
+        return (start == 0 || !Character.isLetterOrDigit(text.charAt(start - 1)))
+                && (end == text.length() || !Character.isLetterOrDigit(text.charAt(end)));
+    }
+}
@@ -0,0 +1,90 @@
+package com.redsocial.app.monitoring;
+
+import java.util.Arrays;
+
+/**
+ * Fases temporizadas de la petición HTTP en curso (auth, consultas, mapeo, serialización...).
+ * Si la petición no se está trazando, {@link #start()} devuelve 0 y {@link #stop} no hace nada,
+ * de modo que las llamadas instrumentadas no cuestan más que una lectura del ThreadLocal.
+ */
+public final class RequestTiming {
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final long startNanos = System.nanoTime();
+    private String[] names = new String[INITIAL_CAPACITY];
+    private String[] descriptions = new String[INITIAL_CAPACITY];
+    private long[] offsets = new long[INITIAL_CAPACITY];
+    private long[] durations = new long[INITIAL_CAPACITY];
+    private int size;
+
+    private RequestTiming() {
+    }
+
+    static RequestTiming begin() {
+        RequestTiming timing = new RequestTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static RequestTiming current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Marca el inicio de una fase; devuelve 0 si la petición no se está trazando.
+     */
+    public static long start() {
+        return CURRENT.get() != null ? System.nanoTime() : 0L;
+    }
+
+    public static void stop(String phase, long startNanos) {
+        stop(phase, startNanos, null);
+    }
+
+    public static void stop(String phase, long startNanos, String description) {
+        if (startNanos == 0L) {
+            return;
+        }
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.add(phase, startNanos, System.nanoTime() - startNanos, description);
+        }
+    }
+
+    void add(String phase, long phaseStartNanos, long durationNanos, String description) {
+        if (size == names.length) {
+            int capacity = size * 2;
+            names = Arrays.copyOf(names, capacity);
+            descriptions = Arrays.copyOf(descriptions, capacity);
+            offsets = Arrays.copyOf(offsets, capacity);
+            durations = Arrays.copyOf(durations, capacity);
+        }
+        names[size] = phase;
+        descriptions[size] = description;
+        offsets[size] = phaseStartNanos - startNanos;
+        durations[size] = durationNanos;
+        size++;
+    }
+
+    /**
+     * Añade las fases de otra traza (la de una subtarea en otro hilo), con su inicio real.
+     */
+    void merge(RequestTiming other) {
+        for (int i = 0; i < other.size; i++) {
+            add(other.names[i], other.startNanos + other.offsets[i], other.durations[i], other.descriptions[i]);
+        }
+    }
+
+    long getStartNanos() { return startNanos; }
+    int size() { return size; }
+    String name(int i) { return names[i]; }
+    String description(int i) { return descriptions[i]; }
+    long offsetNanos(int i) { return offsets[i]; }
+    long durationNanos(int i) { return durations[i]; }
+}
@@ -0,0 +1,120 @@
+package com.redsocial.app.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Desglose temporal por petición. Con {@code app.tracing.server-timing.enabled} se devuelve
+ * la cabecera {@code Server-Timing} (la respuesta se bufferiza para poder añadirla tras serializar);
+ * con el perfil {@code tracing} cada petición se exporta como una línea JSON de spans
+ * al fichero configurado en logback-spring.xml.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+    private static final Logger spanLogger = LoggerFactory.getLogger("com.redsocial.app.monitoring.spans");
+
+    private final boolean serverTimingEnabled;
+
+    public RequestTimingFilter(@Value("${app.tracing.server-timing.enabled:false}") boolean serverTimingEnabled) {
+        this.serverTimingEnabled = serverTimingEnabled;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !serverTimingEnabled && !spanLogger.isInfoEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        RequestTiming timing = RequestTiming.begin();
+        long startEpochMicros = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+        HttpServletResponse target = serverTimingEnabled ? new ContentCachingResponseWrapper(response) : response;
+        try {
+            filterChain.doFilter(request, target);
+        } finally {
+            RequestTiming.end();
+            long totalNanos = System.nanoTime() - timing.getStartNanos();
+            SqlRequestStats sql = SqlRequestStats.current();
+
+            if (target instanceof ContentCachingResponseWrapper buffered) {
+                buffered.setHeader("Server-Timing", serverTiming(timing, sql, totalNanos));
+                buffered.copyBodyToResponse();
+            }
+            if (spanLogger.isInfoEnabled()) {
+                spanLogger.info(spans(request, response.getStatus(), timing, sql, startEpochMicros, totalNanos));
+            }
+        }
+    }
+
+    private String serverTiming(RequestTiming timing, SqlRequestStats sql, long totalNanos) {
+        StringBuilder header = new StringBuilder(128);
+        for (int i = 0; i < timing.size(); i++) {
+            header.append(timing.name(i)).append(";dur=").append(millis(timing.durationNanos(i)));
+            if (timing.description(i) != null) {
+                header.append(";desc=\"").append(timing.description(i).replace("\"", "'")).append('"');
+            }
+            header.append(", ");
+        }
+        if (sql != null) {
+            header.append("db;dur=").append(sql.getElapsedMs())
+                    .append(";desc=\"").append(sql.getStatements()).append(" sentencias\", ");
+        }
+        return header.append("total;dur=").append(millis(totalNanos)).toString();
+    }
+
+    private String spans(HttpServletRequest request, int status, RequestTiming timing, SqlRequestStats sql,
+                         long startEpochMicros, long totalNanos) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        StringBuilder json = new StringBuilder(256);
+        json.append("{\"traceId\":\"").append(UUID.randomUUID())
+                .append("\",\"name\":\"").append(request.getMethod()).append(' ')
+                .append(pattern != null ? pattern : request.getRequestURI())
+                .append("\",\"status\":").append(status)
+                .append(",\"startUs\":").append(startEpochMicros)
+                .append(",\"durationUs\":").append(TimeUnit.NANOSECONDS.toMicros(totalNanos));
+        if (sql != null) {
+            json.append(",\"sqlStatements\":").append(sql.getStatements())
+                    .append(",\"sqlMs\":").append(sql.getElapsedMs());
+        }
+        json.append(",\"spans\":[");
+        for (int i = 0; i < timing.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"name\":\"").append(timing.name(i))
+                    .append("\",\"offsetUs\":").append(TimeUnit.NANOSECONDS.toMicros(timing.offsetNanos(i)))
+                    .append(",\"durationUs\":").append(TimeUnit.NANOSECONDS.toMicros(timing.durationNanos(i)));
+            if (timing.description(i) != null) {
+                json.append(",\"desc\":\"").append(timing.description(i).replace("\"", "'")).append('"');
+            }
+            json.append('}');
+        }
+        return json.append("]}").toString();
+    }
+
+    private String millis(long nanos) {
+        return String.valueOf(nanos / 1_000L / 1000.0);
+    }
+}
@@ -0,0 +1,78 @@
+package com.redsocial.app.monitoring;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Contadores de SQL de la petición HTTP en curso (sentencias, filas y tiempo), ligados al hilo.
+ */
+public final class SqlRequestStats {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> occurrences = new HashMap<>();
+    private int statements;
+    private long rows;
+    private long elapsedMs;
+    private int maxRepeats;
+    private String mostRepeated;
+
+    private SqlRequestStats() {
+    }
+
+    static SqlRequestStats begin() {
+        SqlRequestStats stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Estadísticas de la petición actual, o {@code null} si el hilo no atiende una petición HTTP.
+     */
+    public static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    void recordStatement(String sql) {
+        statements++;
+        int repeats = occurrences.merge(sql, 1, Integer::sum);
+        if (repeats > maxRepeats) {
+            maxRepeats = repeats;
+            mostRepeated = sql;
+        }
+    }
+
+    /**
+     * Suma las estadísticas de otra petición lógica (la de una subtarea en otro hilo).
+     */
+    void merge(SqlRequestStats other) {
+        statements += other.statements;
+        rows += other.rows;
+        elapsedMs += other.elapsedMs;
+        other.occurrences.forEach((sql, count) -> {
+            int repeats = occurrences.merge(sql, count, Integer::sum);
+            if (repeats > maxRepeats) {
+                maxRepeats = repeats;
+                mostRepeated = sql;
+            }
+        });
+    }
+
+    void addElapsed(long ms) {
+        elapsedMs += ms;
+    }
+
+    void addRows(long count) {
+        rows += count;
+    }
+
+    public int getStatements() { return statements; }
+    public long getRows() { return rows; }
+    public long getElapsedMs() { return elapsedMs; }
+    public int getMaxRepeats() { return maxRepeats; }
+    public String getMostRepeated() { return mostRepeated; }
+}
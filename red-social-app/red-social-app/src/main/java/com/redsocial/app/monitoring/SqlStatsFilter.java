@@ -0,0 +1,107 @@
+package com.redsocial.app.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publica por endpoint el número de sentencias SQL, filas y tiempo en BD de cada petición,
+ * y señala las que superan el presupuesto de sentencias o repiten la misma sentencia (patrón N+1).
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "app.sql-metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatsFilter.class);
+    private static final int MAX_LOGGED_SQL_LENGTH = 200;
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+    private final int repeatThreshold;
+
+    public SqlStatsFilter(MeterRegistry meterRegistry,
+                          @Value("${app.sql-metrics.statement-budget:10}") int statementBudget,
+                          @Value("${app.sql-metrics.repeat-threshold:3}") int repeatThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        SqlRequestStats stats = SqlRequestStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlRequestStats.end();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlRequestStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .tags("method", method, "uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        DistributionSummary.builder("http.server.requests.sql.rows")
+                .tags("method", method, "uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getRows());
+        Timer.builder("http.server.requests.sql.time")
+                .tags("method", method, "uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getElapsedMs(), TimeUnit.MILLISECONDS);
+
+        if (stats.getStatements() > statementBudget) {
+            flag(method, uri, "budget");
+            logger.warn("Petición {} {} ejecutó {} sentencias SQL (presupuesto {})",
+                    method, uri, stats.getStatements(), statementBudget);
+        }
+        if (stats.getMaxRepeats() >= repeatThreshold) {
+            flag(method, uri, "repeated");
+            logger.warn("Posible N+1 en {} {}: sentencia repetida {} veces: {}",
+                    method, uri, stats.getMaxRepeats(), abbreviate(stats.getMostRepeated()));
+        }
+    }
+
+    private void flag(String method, String uri, String reason) {
+        Counter.builder("http.server.requests.sql.flagged")
+                .tags("method", method, "uri", uri, "reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private String abbreviate(String sql) {
+        return sql.length() <= MAX_LOGGED_SQL_LENGTH ? sql : sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+}
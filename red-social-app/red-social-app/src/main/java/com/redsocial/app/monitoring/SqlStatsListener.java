@@ -0,0 +1,61 @@
+package com.redsocial.app.monitoring;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * Listener del proxy JDBC que acumula sentencias, tiempo y filas en {@link SqlRequestStats}.
+ * Las filas leídas se cuentan por cada {@code ResultSet.next()} que devuelve {@code true};
+ * las modificadas, a partir del resultado de {@code executeUpdate}/{@code executeBatch}.
+ */
+class SqlStatsListener implements QueryExecutionListener, MethodExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats == null) {
+            return;
+        }
+        for (QueryInfo query : queryInfoList) {
+            stats.recordStatement(query.getQuery());
+        }
+        stats.addElapsed(execInfo.getElapsedTime());
+
+        Object result = execInfo.getResult();
+        if (result instanceof Integer updated && updated > 0) {
+            stats.addRows(updated);
+        } else if (result instanceof int[] batch) {
+            for (int updated : batch) {
+                if (updated > 0) {
+                    stats.addRows(updated);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && Boolean.TRUE.equals(executionContext.getResult())
+                && "next".equals(executionContext.getMethod().getName())) {
+            SqlRequestStats stats = SqlRequestStats.current();
+            if (stats != null) {
+                stats.addRows(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.redsocial.app.monitoring;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Traza y estadísticas SQL de una subtarea que la petición lanza en otro hilo (por ejemplo, en un hilo
+ * virtual). {@link RequestTiming} y {@link SqlRequestStats} van ligados al hilo y no son seguros entre hilos:
+ * la subtarea registra en los suyos propios y el hilo de la petición los suma a los de la petición con
+ * {@link #mergeIntoCurrent()} cuando la subtarea ha terminado.
+ */
+public final class SubtaskStats {
+
+    private final boolean timed;
+    private final boolean sql;
+    private volatile RequestTiming timing;
+    private volatile SqlRequestStats stats;
+
+    private SubtaskStats(boolean timed, boolean sql) {
+        this.timed = timed;
+        this.sql = sql;
+    }
+
+    /**
+     * Debe llamarse en el hilo de la petición, antes de lanzar la subtarea.
+     */
+    public static SubtaskStats capture() {
+        return new SubtaskStats(RequestTiming.start() != 0L, SqlRequestStats.current() != null);
+    }
+
+    public <T> Callable<T> wrap(Callable<T> task) {
+        if (!timed && !sql) {
+            return task;
+        }
+        return () -> {
+            RequestTiming childTiming = timed ? RequestTiming.begin() : null;
+            SqlRequestStats childStats = sql ? SqlRequestStats.begin() : null;
+            try {
+                return task.call();
+            } finally {
+                if (childTiming != null) {
+                    RequestTiming.end();
+                }
+                if (childStats != null) {
+                    SqlRequestStats.end();
+                }
+                timing = childTiming;
+                stats = childStats;
+            }
+        };
+    }
+
+    /**
+     * Suma lo registrado por la subtarea a la petición del hilo actual. No hace nada si la subtarea
+     * no ha terminado (plazo agotado): sus contadores se descartan en lugar de compartirse entre hilos.
+     */
+    public void mergeIntoCurrent() {
+        RequestTiming childTiming = timing;
+        RequestTiming parentTiming = RequestTiming.current();
+        if (childTiming != null && parentTiming != null) {
+            parentTiming.merge(childTiming);
+        }
+        SqlRequestStats childStats = stats;
+        SqlRequestStats parentStats = SqlRequestStats.current();
+        if (childStats != null && parentStats != null) {
+            parentStats.merge(childStats);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.redsocial.app.repository;
+
+import com.redsocial.app.model.Comment;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Paginación por clave (created_at, id): cada página continúa tras el último comentario de la anterior,
+ * sin OFFSET, apoyándose en los índices (post_id, created_at, id) y (parent_id, created_at, id).
+ */
+public interface CommentRepository extends JpaRepository<Comment, UUID> {
+
+    @Query("""
+           select c from Comment c
+           join fetch c.user u
+           left join fetch u.profile pr
+           where c.postId = :postId and c.parentId is null
+           order by c.createdAt asc, c.id asc
+           """)
+    List<Comment> findTopLevel(@Param("postId") UUID postId, Limit limit);
+
+    @Query("""
+           select c from Comment c
+           join fetch c.user u
+           left join fetch u.profile pr
+           where c.postId = :postId and c.parentId is null
+             and (c.createdAt > :afterTime or (c.createdAt = :afterTime and c.id > :afterId))
+           order by c.createdAt asc, c.id asc
+           """)
+    List<Comment> findTopLevelAfter(@Param("postId") UUID postId,
+                                    @Param("afterTime") OffsetDateTime afterTime,
+                                    @Param("afterId") UUID afterId,
+                                    Limit limit);
+
+    @Query("""
+           select c from Comment c
+           join fetch c.user u
+           left join fetch u.profile pr
+           where c.parentId = :parentId
+           order by c.createdAt asc, c.id asc
+           """)
+    List<Comment> findReplies(@Param("parentId") UUID parentId, Limit limit);
+
+    @Query("""
+           select c from Comment c
+           join fetch c.user u
+           left join fetch u.profile pr
+           where c.parentId = :parentId
+             and (c.createdAt > :afterTime or (c.createdAt = :afterTime and c.id > :afterId))
+           order by c.createdAt asc, c.id asc
+           """)
+    List<Comment> findRepliesAfter(@Param("parentId") UUID parentId,
+                                   @Param("afterTime") OffsetDateTime afterTime,
+                                   @Param("afterId") UUID afterId,
+                                   Limit limit);
+}
@@ -0,0 +1,21 @@
+package com.redsocial.app.repository;
+
+import com.redsocial.app.model.Follow;
+import com.redsocial.app.model.FollowId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.stream.Stream;
+
+public interface FollowRepository extends JpaRepository<Follow, FollowId> {
+
+    /**
+     * Todas las relaciones, en streaming, para construir el índice de adyacencia en memoria.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select f.id from Follow f")
+    Stream<FollowId> streamAllIds();
+}
@@ -0,0 +1,84 @@
+package com.redsocial.app.repository;
+
+import com.redsocial.app.model.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Tiempo de espera de bloqueo que Hibernate traduce a {@code for update skip locked}
+     * ({@code LockOptions.SKIP_LOCKED}).
+     */
+    String SKIP_LOCKED = "-2";
+
+    /**
+     * Eventos sin publicar posteriores a {@code afterId}, en orden de escritura, que no tenga reclamados otro
+     * nodo (o cuyo plazo venció antes de {@code expiredBefore}). Bloquea las filas y salta las que otro nodo
+     * está reclamando en ese momento.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = SKIP_LOCKED))
+    @Query("""
+           select e from OutboxEvent e
+           where e.publishedAt is null and e.id > :afterId
+             and (e.claimedBy is null or e.claimedBy = :nodeId or e.claimedAt < :expiredBefore)
+           order by e.id asc
+           """)
+    List<OutboxEvent> findClaimableAfter(@Param("afterId") long afterId,
+                                         @Param("nodeId") String nodeId,
+                                         @Param("expiredBefore") OffsetDateTime expiredBefore,
+                                         Limit limit);
+
+    /**
+     * Como {@link #findClaimableAfter}, pero hasta {@code upToId} inclusive: huecos que dejaron transacciones
+     * confirmadas después de que el relay leyera IDs mayores, o eventos de un nodo caído.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = SKIP_LOCKED))
+    @Query("""
+           select e from OutboxEvent e
+           where e.publishedAt is null and e.id <= :upToId
+             and (e.claimedBy is null or e.claimedBy = :nodeId or e.claimedAt < :expiredBefore)
+           order by e.id asc
+           """)
+    List<OutboxEvent> findClaimableUpTo(@Param("upToId") long upToId,
+                                        @Param("nodeId") String nodeId,
+                                        @Param("expiredBefore") OffsetDateTime expiredBefore,
+                                        Limit limit);
+
+    @Query("select coalesce(max(e.id), 0) from OutboxEvent e")
+    long findMaxId();
+
+    /**
+     * Eventos de los tipos indicados posteriores a {@code afterId}, publicados o no, en orden de escritura.
+     */
+    @Query("""
+           select e from OutboxEvent e
+           where e.eventType in :types and e.id > :afterId
+           order by e.id asc
+           """)
+    List<OutboxEvent> findByTypeAfter(@Param("types") Collection<String> types, @Param("afterId") long afterId, Limit limit);
+
+    /**
+     * Eventos de los tipos indicados escritos desde {@code since}, publicados o no, paginados por ID.
+     */
+    @Query("""
+           select e from OutboxEvent e
+           where e.eventType in :types and e.createdAt >= :since and e.id > :afterId
+           order by e.id asc
+           """)
+    List<OutboxEvent> findByTypeCreatedSince(@Param("types") Collection<String> types, @Param("since") OffsetDateTime since,
+                                             @Param("afterId") long afterId, Limit limit);
+}
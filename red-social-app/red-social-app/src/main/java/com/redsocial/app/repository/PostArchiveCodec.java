@@ -0,0 +1,78 @@
+package com.redsocial.app.repository;
+
+import com.redsocial.app.model.Post;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Serializa los campos no indexados de un post a un bloque binario comprimido con Deflate.
+ */
+final class PostArchiveCodec {
+
+    private static final byte VERSION = 1;
+
+    private PostArchiveCodec() {
+    }
+
+    static byte[] encode(Post post) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            out.writeByte(VERSION);
+            writeString(out, post.getContent());
+            writeString(out, post.getMediaUrl());
+            out.writeInt(post.getLikesCount() != null ? post.getLikesCount() : 0);
+            out.writeInt(post.getCommentsCount() != null ? post.getCommentsCount() : 0);
+            out.writeLong(post.getUpdatedAt() != null ? post.getUpdatedAt().toInstant().toEpochMilli() : -1L);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo comprimir el post " + post.getId(), e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static void decodeInto(byte[] payload, Post post) {
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(payload)))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IOException("Versión de post archivado no soportada: " + version);
+            }
+            post.setContent(readString(in));
+            post.setMediaUrl(readString(in));
+            post.setLikesCount(in.readInt());
+            post.setCommentsCount(in.readInt());
+            long updatedAt = in.readLong();
+            post.setUpdatedAt(updatedAt < 0 ? null : OffsetDateTime.ofInstant(Instant.ofEpochMilli(updatedAt), ZoneOffset.UTC));
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo descomprimir el post " + post.getId(), e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] utf8 = in.readNBytes(length);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,11 @@
+package com.redsocial.app.repository;
+
+import java.util.UUID;
+
+/**
+ * {@link PostStamp} con el autor, para poner al día las líneas temporales restauradas de una instantánea.
+ */
+public interface PostAuthorStamp extends PostStamp {
+
+    UUID getUserId();
+}
@@ -0,0 +1,13 @@
+package com.redsocial.app.repository;
+
+import java.util.UUID;
+
+/**
+ * Proyección con el contenido de un post, para completar la caché de contenidos.
+ */
+public interface PostContent {
+
+    UUID getId();
+
+    String getContent();
+}
@@ -0,0 +1,23 @@
+package com.redsocial.app.repository;
+
+import com.redsocial.app.model.PostLike;
+import com.redsocial.app.model.PostLikeId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface PostLikeRepository extends JpaRepository<PostLike, PostLikeId> {
+
+    /**
+     * Todos los posts que le gustan a un usuario, para reconstruir su bitmap en memoria.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select l.id.postId from PostLike l where l.id.userId = :userId")
+    List<UUID> findPostIdsByUserId(@Param("userId") UUID userId);
+}
@@ -1,15 +1,19 @@
 package com.redsocial.app.repository;
 
 import com.redsocial.app.model.Post;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
-public interface PostRepository extends JpaRepository<Post, UUID> {
+public interface PostRepository extends JpaRepository<Post, UUID>, PostRepositoryCustom {
 
     @Query("""
            select p from Post p
@@ -19,6 +23,20 @@ public interface PostRepository extends JpaRepository<Post, UUID> {
            """)
     Page<Post> findAllWithUserProfile(Pageable pageable);
 
+    /**
+     * Igual que {@link #findAllWithUserProfile(Pageable)} pero acotado por {@code created_at}
+     * para que PostgreSQL descarte las particiones mensuales anteriores.
+     */
+    @Query(value = """
+           select p from Post p
+           join fetch p.user u
+           left join fetch u.profile pr
+           where p.createdAt >= :since
+           order by p.createdAt desc
+           """,
+           countQuery = "select count(p) from Post p where p.createdAt >= :since")
+    Page<Post> findAllWithUserProfileSince(@Param("since") OffsetDateTime since, Pageable pageable);
+
     @Query("""
            select p from Post p
            join fetch p.user u
@@ -27,4 +45,87 @@ public interface PostRepository extends JpaRepository<Post, UUID> {
            order by p.createdAt desc
            """)
     Page<Post> findByUserIdWithUserProfile(@Param("userId") UUID userId, Pageable pageable);
+
+    /**
+     * Posts por ID con usuario y perfil en una sola consulta; el orden del resultado no está definido.
+     */
+    @Query("""
+           select p from Post p
+           join fetch p.user u
+           left join fetch u.profile pr
+           where p.id in :ids
+           """)
+    List<Post> findAllWithUserProfileByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Como {@link #findAllWithUserProfileByIdIn} pero sin el contenido del post.
+     */
+    @Query("""
+           select p.id as id, u.id as userId, pr.alias as alias, p.mediaUrl as mediaUrl,
+                  p.likesCount as likesCount, p.commentsCount as commentsCount,
+                  p.createdAt as createdAt, p.updatedAt as updatedAt
+           from Post p
+           join p.user u
+           left join u.profile pr
+           where p.id in :ids
+           """)
+    List<PostSummary> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("select p.id as id, p.content as content from Post p where p.id in :ids")
+    List<PostContent> findContentsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Posts más recientes de un autor, solo ID y fecha.
+     */
+    @Query("""
+           select p.id as id, p.createdAt as createdAt from Post p
+           where p.user.id = :userId
+           order by p.createdAt desc, p.id desc
+           """)
+    List<PostStamp> findRecentStampsByUserId(@Param("userId") UUID userId, Limit limit);
+
+    /**
+     * Los {@code perUser} posts más recientes de cada autor, solo ID, autor y fecha, en una sola consulta.
+     */
+    @Query("""
+           select r.id as id, r.userId as userId, r.createdAt as createdAt from (
+               select p.id as id, p.user.id as userId, p.createdAt as createdAt,
+                      row_number() over (partition by p.user.id order by p.createdAt desc, p.id desc) as recency
+               from Post p
+               where p.user.id in :userIds) r
+           where r.recency <= :perUser
+           """)
+    List<PostAuthorStamp> findRecentStampsByUserIdIn(@Param("userIds") Collection<UUID> userIds,
+                                                     @Param("perUser") int perUser);
+
+    /**
+     * Posts de los autores indicados anteriores a ({@code beforeTime}, {@code beforeId}), del más reciente al
+     * más antiguo, solo ID y fecha.
+     */
+    @Query("""
+           select p.id as id, p.createdAt as createdAt from Post p
+           where p.user.id in :userIds
+             and (p.createdAt < :beforeTime or (p.createdAt = :beforeTime and p.id < :beforeId))
+           order by p.createdAt desc, p.id desc
+           """)
+    List<PostStamp> findStampsByUserIdInBefore(@Param("userIds") Collection<UUID> userIds,
+                                               @Param("beforeTime") OffsetDateTime beforeTime,
+                                               @Param("beforeId") UUID beforeId,
+                                               Limit limit);
+
+    /**
+     * Post más reciente (ID y fecha), como marca de agua de las instantáneas en disco.
+     */
+    @Query("select p.id as id, p.createdAt as createdAt from Post p order by p.createdAt desc, p.id desc")
+    List<PostStamp> findLatestStamps(Limit limit);
+
+    /**
+     * Posts creados a partir de {@code since}, del más antiguo al más reciente, solo ID, autor y fecha.
+     */
+    @Query("""
+           select p.id as id, p.user.id as userId, p.createdAt as createdAt from Post p
+           where p.createdAt >= :since
+           order by p.createdAt asc, p.id asc
+           """)
+    List<PostAuthorStamp> findAuthorStampsCreatedSince(@Param("since") OffsetDateTime since, Limit limit);
 }
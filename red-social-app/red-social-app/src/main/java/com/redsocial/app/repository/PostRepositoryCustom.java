@@ -0,0 +1,28 @@
+package com.redsocial.app.repository;
+
+import com.redsocial.app.model.Post;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Operaciones de {@link PostRepository} sobre el almacén frío de posts archivados.
+ * Los posts devueltos se reconstruyen desde {@code posts_archive} y no están gestionados por JPA.
+ */
+public interface PostRepositoryCustom {
+
+    Optional<Post> findArchivedById(UUID id);
+
+    List<Post> findArchivedByUserId(UUID userId, long offset, int limit);
+
+    long countArchivedByUserId(UUID userId);
+
+    /**
+     * Mueve al almacén frío un lote de posts creados antes de {@code cutoff}.
+     *
+     * @return número de posts archivados en el lote
+     */
+    int archiveCreatedBefore(OffsetDateTime cutoff, int batchSize);
+}
@@ -0,0 +1,89 @@
+package com.redsocial.app.repository;
+
+import com.redsocial.app.model.Post;
+import com.redsocial.app.model.PostArchive;
+import com.redsocial.app.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Implementación del fragmento {@link PostRepositoryCustom}.
+ */
+class PostRepositoryImpl implements PostRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Post> findArchivedById(UUID id) {
+        return Optional.ofNullable(entityManager.find(PostArchive.class, id)).map(this::restore);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Post> findArchivedByUserId(UUID userId, long offset, int limit) {
+        return entityManager.createQuery("""
+                        select a from PostArchive a
+                        where a.userId = :userId
+                        order by a.createdAt desc
+                        """, PostArchive.class)
+                .setParameter("userId", userId)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(this::restore)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countArchivedByUserId(UUID userId) {
+        return entityManager.createQuery(
+                        "select count(a) from PostArchive a where a.userId = :userId", Long.class)
+                .setParameter("userId", userId)
+                .getSingleResult();
+    }
+
+    @Override
+    @Transactional
+    public int archiveCreatedBefore(OffsetDateTime cutoff, int batchSize) {
+        List<Post> batch = entityManager.createQuery("""
+                        select p from Post p
+                        where p.createdAt < :cutoff
+                        order by p.createdAt
+                        """, Post.class)
+                .setParameter("cutoff", cutoff)
+                .setMaxResults(batchSize)
+                .getResultList();
+
+        OffsetDateTime now = OffsetDateTime.now();
+        for (Post post : batch) {
+            PostArchive archive = new PostArchive();
+            archive.setId(post.getId());
+            archive.setUserId(post.getUser().getId());
+            archive.setCreatedAt(post.getCreatedAt());
+            archive.setArchivedAt(now);
+            archive.setPayload(PostArchiveCodec.encode(post));
+            entityManager.persist(archive);
+            entityManager.remove(post);
+        }
+        return batch.size();
+    }
+
+    private Post restore(PostArchive archive) {
+        Post post = new Post();
+        post.setId(archive.getId());
+        post.setUser(entityManager.getReference(User.class, archive.getUserId()));
+        post.setCreatedAt(archive.getCreatedAt());
+        PostArchiveCodec.decodeInto(archive.getPayload(), post);
+        return post;
+    }
+}
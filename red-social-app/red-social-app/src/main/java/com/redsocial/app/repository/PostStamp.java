@@ -0,0 +1,14 @@
+package com.redsocial.app.repository;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Proyección mínima de un post (ID y fecha) para las líneas temporales por autor.
+ */
+public interface PostStamp {
+
+    UUID getId();
+
+    OffsetDateTime getCreatedAt();
+}
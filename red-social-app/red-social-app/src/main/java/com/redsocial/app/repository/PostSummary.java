@@ -0,0 +1,26 @@
+package com.redsocial.app.repository;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Proyección de un post para los feeds sin el contenido, que se obtiene aparte de la caché fuera del heap.
+ */
+public interface PostSummary {
+
+    UUID getId();
+
+    UUID getUserId();
+
+    String getAlias();
+
+    String getMediaUrl();
+
+    Integer getLikesCount();
+
+    Integer getCommentsCount();
+
+    OffsetDateTime getCreatedAt();
+
+    OffsetDateTime getUpdatedAt();
+}
@@ -0,0 +1,36 @@
+package com.redsocial.app.repository;
+
+import com.redsocial.app.model.PostTag;
+import com.redsocial.app.model.PostTagId;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Paginación por clave (created_at, post_id) descendente sobre el índice (tag, created_at, post_id).
+ */
+public interface PostTagRepository extends JpaRepository<PostTag, PostTagId> {
+
+    @Query("""
+           select t.id.postId as id, t.createdAt as createdAt from PostTag t
+           where t.id.tag = :tag
+           order by t.createdAt desc, t.id.postId desc
+           """)
+    List<PostStamp> findRecent(@Param("tag") String tag, Limit limit);
+
+    @Query("""
+           select t.id.postId as id, t.createdAt as createdAt from PostTag t
+           where t.id.tag = :tag
+             and (t.createdAt < :beforeTime or (t.createdAt = :beforeTime and t.id.postId < :beforeId))
+           order by t.createdAt desc, t.id.postId desc
+           """)
+    List<PostStamp> findBefore(@Param("tag") String tag,
+                               @Param("beforeTime") OffsetDateTime beforeTime,
+                               @Param("beforeId") UUID beforeId,
+                               Limit limit);
+}
@@ -0,0 +1,23 @@
+package com.redsocial.app.repository;
+
+import com.redsocial.app.model.PostViewSketch;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface PostViewSketchRepository extends JpaRepository<PostViewSketch, UUID> {
+
+    /**
+     * Sketches de los posts indicados, bloqueados para escritura en orden de ID para que dos volcados
+     * simultáneos (en nodos distintos) no se bloqueen mutuamente.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from PostViewSketch s where s.postId in :postIds order by s.postId")
+    List<PostViewSketch> findAllByIdForUpdate(@Param("postIds") Collection<UUID> postIds);
+}
@@ -0,0 +1,9 @@
+package com.redsocial.app.repository;
+
+import com.redsocial.app.model.TrendingSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface TrendingSnapshotRepository extends JpaRepository<TrendingSnapshot, UUID> {
+}
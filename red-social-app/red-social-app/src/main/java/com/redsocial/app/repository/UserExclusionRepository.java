@@ -0,0 +1,21 @@
+package com.redsocial.app.repository;
+
+import com.redsocial.app.model.UserExclusion;
+import com.redsocial.app.model.UserExclusionId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.stream.Stream;
+
+public interface UserExclusionRepository extends JpaRepository<UserExclusion, UserExclusionId> {
+
+    /**
+     * Todas las exclusiones, en streaming, para construir el índice en memoria.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select e.id from UserExclusion e")
+    Stream<UserExclusionId> streamAllIds();
+}
@@ -1,16 +1,44 @@
 package com.redsocial.app.repository;
 
+import com.redsocial.app.config.CacheConfig;
 import com.redsocial.app.model.UserProfile;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface UserProfileRepository extends JpaRepository<UserProfile, UUID> {
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheConfig.USER_PROFILE_QUERIES_REGION)
+    })
     Optional<UserProfile> findByAlias(String alias);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheConfig.USER_PROFILE_QUERIES_REGION)
+    })
     Optional<UserProfile> findByUser_Id(UUID userId);
 
     boolean existsByAlias(String alias);
+
+    /**
+     * IDs de usuario de los alias indicados; los alias inexistentes se ignoran.
+     */
+    @Query("select p.user.id from UserProfile p where p.alias in :aliases")
+    List<UUID> findUserIdsByAliasIn(@Param("aliases") Collection<String> aliases);
+
+    @Query("select p from UserProfile p join fetch p.user where p.id in :ids")
+    List<UserProfile> findAllWithUserByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("select p from UserProfile p join fetch p.user u where u.id in :userIds")
+    List<UserProfile> findAllWithUserByUserIdIn(@Param("userIds") Collection<UUID> userIds);
 }
@@ -1,12 +1,20 @@
 package com.redsocial.app.repository;
 
+import com.redsocial.app.config.CacheConfig;
 import com.redsocial.app.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 import java.util.UUID;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheConfig.USER_QUERIES_REGION)
+    })
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
 }
@@ -1,5 +1,6 @@
 package com.redsocial.app.security;
 
+import com.redsocial.app.monitoring.RequestTiming;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -41,16 +42,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String jwt = authHeader.substring(bearerPrefix.length());
         String username;
+        long start = RequestTiming.start();
         try {
             username = jwtService.extractUsername(jwt);
         } catch (Exception e) {
+            RequestTiming.stop("jwt", start, "token inválido");
             filterChain.doFilter(request, response);
             return;
         }
+        RequestTiming.stop("jwt", start);
 
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            start = RequestTiming.start();
             UserDetails user = userDetailsService.loadUserByUsername(username);
-            if (jwtService.isTokenValid(jwt, user)) {
+            RequestTiming.stop("principal", start);
+            start = RequestTiming.start();
+            boolean valid = jwtService.isTokenValid(jwt, user);
+            RequestTiming.stop("jwt-validate", start);
+            if (valid) {
                 UsernamePasswordAuthenticationToken authToken =
                         new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -1,6 +1,7 @@
 package com.redsocial.app.security;
 
 import io.jsonwebtoken.*;
+import io.micrometer.core.annotation.Timed;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -39,10 +40,12 @@ public class JwtService {
                 .compact();
     }
 
+    @Timed(value = "app.jwt.parse", extraTags = {"operation", "extract-username"}, histogram = true)
     public String extractUsername(String token) {
         return parseAllClaims(token).getSubject();
     }
 
+    @Timed(value = "app.jwt.parse", extraTags = {"operation", "validate"}, histogram = true)
     public boolean isTokenValid(String token, UserDetails user) {
         String username = extractUsername(token);
         return username.equalsIgnoreCase(user.getUsername()) && !isTokenExpired(token);
@@ -1,7 +1,9 @@
 package com.redsocial.app.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -37,13 +39,18 @@ public class SecurityConfig {
         http.authorizeHttpRequests(auth -> auth
                 // Health checks
                 .requestMatchers("/actuator/health", "/actuator/info").permitAll()
+                // El resto de /actuator (métricas, Prometheus, regiones de caché) exige autenticación:
+                // expone rutas, consultas y volumen de tráfico
+                .requestMatchers("/actuator/**").authenticated()
                 // Swagger/OpenAPI documentation
                 .requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/api-docs/**", "/v3/api-docs/**").permitAll()
                 // Authentication endpoints
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/api/auth/me").authenticated()
                 // Public endpoints
-                .requestMatchers("/api/posts", "/api/user-profiles/**").permitAll()
+                .requestMatchers("/api/posts", "/api/posts/trending", "/api/posts/*/views", "/api/user-profiles/**").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/posts/*/comments", "/api/comments/*/replies", "/api/tags/*/posts").permitAll()
+                .requestMatchers(HttpMethod.POST, "/api/posts/batch").permitAll()
                 // Protected endpoints
                 .requestMatchers("/api/posts").authenticated()
                 .anyRequest().authenticated()
@@ -60,8 +67,8 @@ public class SecurityConfig {
     }
 
     @Bean
-    PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry);
     }
 
     @Bean
@@ -0,0 +1,51 @@
+package com.redsocial.app.service;
+
+import com.redsocial.app.dto.BatchResponse;
+import com.redsocial.app.exception.ValidationException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Utilidades comunes de las consultas por lotes: validación de la lista de IDs y
+ * reconstrucción del resultado en el orden pedido.
+ */
+final class BatchIds {
+
+    private BatchIds() {
+    }
+
+    /**
+     * IDs sin repetir, en el orden de su primera aparición.
+     */
+    static List<UUID> distinct(List<UUID> ids, int maxIds) {
+        if (ids == null || ids.isEmpty()) {
+            throw new ValidationException("La lista de IDs no puede estar vacía");
+        }
+        // Antes de recorrer la lista: una petición enorme se rechaza sin construir el conjunto
+        if (ids.size() > maxIds) {
+            throw new ValidationException("No se pueden pedir más de " + maxIds + " IDs por lote");
+        }
+        if (ids.contains(null)) {
+            throw new ValidationException("La lista de IDs no puede contener valores nulos");
+        }
+        return new ArrayList<>(new LinkedHashSet<>(ids));
+    }
+
+    static <T> BatchResponse<T> inOrder(List<UUID> ids, Map<UUID, T> found) {
+        List<T> items = new ArrayList<>(found.size());
+        List<UUID> missing = new ArrayList<>();
+        for (UUID id : ids) {
+            T item = found.get(id);
+            if (item != null) {
+                items.add(item);
+            } else {
+                missing.add(id);
+            }
+        }
+        return new BatchResponse<>(items, missing);
+    }
+}
@@ -0,0 +1,89 @@
+package com.redsocial.app.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mantenimiento diferido de {@code posts.comments_count}. Cada comentario confirmado suma un delta en
+ * memoria; un volcado periódico aplica los deltas acumulados con un único UPDATE por lotes, en lugar de
+ * un UPDATE por comentario sobre la fila del post. Los deltas pendientes se pierden si el proceso cae:
+ * la reconciliación periódica recalcula el contador de los posts comentados recientemente.
+ */
+@Service
+public class CommentCountAggregator {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommentCountAggregator.class);
+
+    private static final String INCREMENT_SQL = "update posts set comments_count = comments_count + ? where id = ?";
+    private static final String RECONCILE_SQL = """
+            update posts p set comments_count = (select count(*) from comments c where c.post_id = p.id)
+            where p.id in (select distinct c.post_id from comments c where c.created_at >= ?)
+              and p.comments_count <> (select count(*) from comments c where c.post_id = p.id)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<UUID, Integer> deltas = new ConcurrentHashMap<>();
+    private final int reconcileWindowHours;
+
+    public CommentCountAggregator(JdbcTemplate jdbcTemplate,
+                                  @Value("${app.comments.reconcile.window-hours:48}") int reconcileWindowHours) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.reconcileWindowHours = reconcileWindowHours;
+    }
+
+    public void increment(UUID postId) {
+        deltas.merge(postId, 1, Integer::sum);
+    }
+
+    @Scheduled(fixedDelayString = "${app.comments.count-flush-interval-ms:1000}")
+    public synchronized void flush() {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Object[]> batch = new ArrayList<>();
+        for (UUID postId : deltas.keySet()) {
+            // remove() es atómico: los incrementos concurrentes crean una entrada nueva para el siguiente volcado
+            Integer delta = deltas.remove(postId);
+            if (delta != null && delta != 0) {
+                batch.add(new Object[]{delta, postId});
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INCREMENT_SQL, batch);
+            logger.debug("Contadores de comentarios actualizados en {} posts", batch.size());
+        }
+    }
+
+    /**
+     * Corrige la deriva de {@code comments_count} (deltas perdidos) en los posts con comentarios recientes.
+     */
+    @Scheduled(cron = "${app.comments.reconcile.cron:0 30 * * * *}")
+    public synchronized void reconcile() {
+        flush();
+        int repaired = jdbcTemplate.update(RECONCILE_SQL, OffsetDateTime.now().minusHours(reconcileWindowHours));
+        if (repaired > 0) {
+            logger.warn("Reconciliación de comentarios: {} posts con contador corregido", repaired);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (Exception e) {
+            logger.warn("No se pudieron volcar los contadores de comentarios pendientes: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.redsocial.app.service;
+
+import com.redsocial.app.dto.CommentResponse;
+import com.redsocial.app.dto.CreateCommentRequest;
+import com.redsocial.app.dto.CursorPage;
+import com.redsocial.app.exception.ResourceNotFoundException;
+import com.redsocial.app.exception.ValidationException;
+import com.redsocial.app.model.Comment;
+import com.redsocial.app.model.User;
+import com.redsocial.app.monitoring.RequestTiming;
+import com.redsocial.app.repository.CommentRepository;
+import com.redsocial.app.repository.PostRepository;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class CommentService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommentService.class);
+    private static final int MAX_CONTENT_LENGTH = 2000;
+
+    private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
+    private final CommentCountAggregator commentCountAggregator;
+
+    public CommentService(CommentRepository commentRepository, PostRepository postRepository,
+                          CommentCountAggregator commentCountAggregator) {
+        this.commentRepository = commentRepository;
+        this.postRepository = postRepository;
+        this.commentCountAggregator = commentCountAggregator;
+    }
+
+    @Transactional
+    @Timed(value = "app.comments.create", histogram = true)
+    public CommentResponse create(User user, UUID postId, CreateCommentRequest request) {
+        validateRequest(request);
+        if (!postRepository.existsById(postId)) {
+            throw new ResourceNotFoundException("Post no encontrado");
+        }
+        if (request.getParentId() != null) {
+            Comment parent = commentRepository.findById(request.getParentId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Comentario no encontrado"));
+            if (!parent.getPostId().equals(postId)) {
+                throw new ValidationException("El comentario padre pertenece a otro post");
+            }
+        }
+
+        Comment comment = new Comment();
+        comment.setPostId(postId);
+        comment.setParentId(request.getParentId());
+        comment.setUser(user);
+        comment.setContent(request.getContent());
+
+        long start = RequestTiming.start();
+        Comment saved = commentRepository.saveAndFlush(comment);
+        RequestTiming.stop("persist", start);
+
+        // El contador del post se actualiza en diferido y solo si el comentario llega a confirmarse
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                commentCountAggregator.increment(postId);
+            }
+        });
+        logger.info("Comentario creado exitosamente con ID: {}", saved.getId());
+        return toResponse(saved);
+    }
+
+    /**
+     * Comentarios de primer nivel de un post, del más antiguo al más reciente.
+     */
+    @Transactional(readOnly = true)
+    @Timed(value = "app.comments.list", extraTags = {"scope", "post"}, histogram = true)
+    public CursorPage<CommentResponse> listByPost(UUID postId, String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Limit limit = Limit.of(size + 1);
+        long start = RequestTiming.start();
+        List<Comment> comments = after == null
+                ? commentRepository.findTopLevel(postId, limit)
+                : commentRepository.findTopLevelAfter(postId, after.createdAt(), after.id(), limit);
+        RequestTiming.stop("comments", start);
+        return toPage(comments, size);
+    }
+
+    /**
+     * Respuestas a un comentario, del más antiguo al más reciente.
+     */
+    @Transactional(readOnly = true)
+    @Timed(value = "app.comments.list", extraTags = {"scope", "replies"}, histogram = true)
+    public CursorPage<CommentResponse> listReplies(UUID commentId, String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Limit limit = Limit.of(size + 1);
+        long start = RequestTiming.start();
+        List<Comment> replies = after == null
+                ? commentRepository.findReplies(commentId, limit)
+                : commentRepository.findRepliesAfter(commentId, after.createdAt(), after.id(), limit);
+        RequestTiming.stop("comments", start);
+        return toPage(replies, size);
+    }
+
+    /**
+     * Se pide un elemento de más para saber si hay página siguiente sin consulta de conteo.
+     */
+    private CursorPage<CommentResponse> toPage(List<Comment> comments, int size) {
+        boolean hasMore = comments.size() > size;
+        List<Comment> page = hasMore ? comments.subList(0, size) : comments;
+        String nextCursor = null;
+        if (hasMore) {
+            Comment last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(page.stream().map(this::toResponse).toList(), nextCursor);
+    }
+
+    private CommentResponse toResponse(Comment comment) {
+        CommentResponse resp = new CommentResponse();
+        resp.setId(comment.getId());
+        resp.setPostId(comment.getPostId());
+        resp.setParentId(comment.getParentId());
+        resp.setUserId(comment.getUser().getId());
+        resp.setContent(comment.getContent());
+        resp.setCreatedAt(comment.getCreatedAt());
+        if (comment.getUser().getProfile() != null) {
+            resp.setAlias(comment.getUser().getProfile().getAlias());
+        }
+        return resp;
+    }
+
+    /**
+     * Valida el request de creación de comentario.
+     */
+    private void validateRequest(CreateCommentRequest request) {
+        if (request == null || !StringUtils.hasText(request.getContent())) {
+            throw new ValidationException("El comentario debe tener contenido");
+        }
+        if (request.getContent().length() > MAX_CONTENT_LENGTH) {
+            throw new ValidationException("El comentario no puede exceder " + MAX_CONTENT_LENGTH + " caracteres");
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.redsocial.app.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Extrae hashtags ({@code #tag}) y menciones ({@code @alias}) del contenido de un post en una sola pasada.
+ * Un token empieza tras un carácter que no forma parte de una palabra (así {@code a@b.com} no es una mención)
+ * y sigue mientras haya letras, dígitos o guiones bajos. Los hashtags se normalizan a minúsculas y deben
+ * contener al menos una letra; las menciones conservan el alias tal cual.
+ */
+public final class ContentTokenizer {
+
+    public static final int MAX_TOKEN_LENGTH = 50;
+    public static final int MAX_TOKENS_PER_KIND = 10;
+
+    public record Tokens(List<String> hashtags, List<String> mentions) {
+
+        public static final Tokens EMPTY = new Tokens(List.of(), List.of());
+
+        public boolean isEmpty() {
+            return hashtags.isEmpty() && mentions.isEmpty();
+        }
+    }
+
+    private ContentTokenizer() {
+    }
+
+    public static Tokens tokenize(CharSequence text) {
+        if (text == null) {
+            return Tokens.EMPTY;
+        }
+        // Las listas solo se crean si el contenido tiene algún token: la mayoría de posts no tiene ninguno
+        List<String> hashtags = null;
+        List<String> mentions = null;
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if ((c != '#' && c != '@') || (i > 0 && isTokenChar(text.charAt(i - 1)))) {
+                i++;
+                continue;
+            }
+            int start = i + 1;
+            int end = start;
+            boolean hasLetter = false;
+            while (end < length && isTokenChar(text.charAt(end))) {
+                hasLetter |= Character.isLetter(text.charAt(end));
+                end++;
+            }
+            int tokenLength = end - start;
+            if (tokenLength > 0 && tokenLength <= MAX_TOKEN_LENGTH) {
+                if (c == '#' && hasLetter) {
+                    hashtags = addDistinct(hashtags, text.subSequence(start, end).toString().toLowerCase(Locale.ROOT));
+                } else if (c == '@') {
+                    mentions = addDistinct(mentions, text.subSequence(start, end).toString());
+                }
+            }
+            i = Math.max(end, i + 1);
+        }
+        if (hashtags == null && mentions == null) {
+            return Tokens.EMPTY;
+        }
+        return new Tokens(hashtags == null ? List.of() : hashtags, mentions == null ? List.of() : mentions);
+    }
+
+    /**
+     * Normaliza un hashtag recibido como parámetro ({@code "#Tag"} o {@code "tag"}).
+     *
+     * @return el hashtag en minúsculas, o {@code null} si no es un hashtag válido
+     */
+    public static String normalizeHashtag(String tag) {
+        if (tag == null) {
+            return null;
+        }
+        String body = tag.startsWith("#") ? tag.substring(1) : tag;
+        if (body.isEmpty() || body.length() > MAX_TOKEN_LENGTH) {
+            return null;
+        }
+        boolean hasLetter = false;
+        for (int i = 0; i < body.length(); i++) {
+            char c = body.charAt(i);
+            if (!isTokenChar(c)) {
+                return null;
+            }
+            hasLetter |= Character.isLetter(c);
+        }
+        return hasLetter ? body.toLowerCase(Locale.ROOT) : null;
+    }
+
+    private static boolean isTokenChar(char c) {
+        return c == '_' || Character.isLetterOrDigit(c);
+    }
+
+    private static List<String> addDistinct(List<String> tokens, String token) {
+        if (tokens == null) {
+            tokens = new ArrayList<>(4);
+        }
+        if (tokens.size() < MAX_TOKENS_PER_KIND && !tokens.contains(token)) {
+            tokens.add(token);
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,101 @@
+package com.redsocial.app.service;
+
+import com.redsocial.app.dto.DashboardResponse;
+import com.redsocial.app.dto.PostResponse;
+import com.redsocial.app.dto.UserProfileResponse;
+import com.redsocial.app.exception.ServiceUnavailableException;
+import com.redsocial.app.model.User;
+import com.redsocial.app.monitoring.RequestTiming;
+import com.redsocial.app.monitoring.SubtaskStats;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Panel inicial del usuario: perfil y feed general, leídos en paralelo en hilos virtuales en lugar de en
+ * peticiones encadenadas desde el cliente. Si una subtarea falla o se agota el plazo, se cancelan todas y se
+ * responde sin esperarlas: una lectura JDBC bloqueada no atiende la interrupción, así que esperar a que terminen
+ * dejaría el plazo sin efecto. Las fases y sentencias SQL de las subtareas terminadas se suman a las de la
+ * petición ({@link SubtaskStats}).
+ */
+@Service
+public class DashboardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardService.class);
+
+    private final UserProfileService userProfileService;
+    private final PostService postService;
+    private final long timeoutMs;
+
+    public DashboardService(UserProfileService userProfileService, PostService postService,
+                            @Value("${app.dashboard.timeout-ms:3000}") long timeoutMs) {
+        this.userProfileService = userProfileService;
+        this.postService = postService;
+        this.timeoutMs = timeoutMs;
+    }
+
+    @Timed(value = "app.dashboard", histogram = true)
+    public DashboardResponse load(User user, int size) {
+        long start = RequestTiming.start();
+        List<SubtaskStats> subtasks = new ArrayList<>(2);
+        // Cada subtarea abre su propia transacción; el contexto de seguridad se copia para likedByMe y exclusiones
+        ExecutorService executor = new DelegatingSecurityContextExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+        try {
+            Future<UserProfileResponse> profile = submit(executor, subtasks,
+                    () -> userProfileService.findByUserId(user.getId()).orElse(null));
+            Future<List<PostResponse>> feed = submit(executor, subtasks,
+                    () -> postService.listAll(PageRequest.of(0, size)).getContent());
+
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            return new DashboardResponse(user.getId(), user.getEmail(), join(profile, deadline), join(feed, deadline));
+        } catch (RuntimeException e) {
+            // Se interrumpen las subtareas pendientes, pero sin esperar a que terminen
+            executor.shutdownNow();
+            throw e;
+        } finally {
+            executor.shutdown();
+            subtasks.forEach(SubtaskStats::mergeIntoCurrent);
+            RequestTiming.stop("dashboard", start);
+        }
+    }
+
+    private static <T> Future<T> submit(ExecutorService executor, List<SubtaskStats> subtasks, Callable<T> task) {
+        SubtaskStats stats = SubtaskStats.capture();
+        subtasks.add(stats);
+        return executor.submit(stats.wrap(task));
+    }
+
+    /**
+     * Espera el resultado de una subtarea hasta el plazo común y relanza su excepción original.
+     */
+    private <T> T join(Future<T> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Error al cargar el panel", e.getCause());
+        } catch (TimeoutException e) {
+            logger.warn("Carga del panel cancelada por superar el plazo de {} ms", timeoutMs);
+            throw new ServiceUnavailableException("Tiempo de espera agotado al cargar el panel", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Carga del panel interrumpida", e);
+        }
+    }
+}
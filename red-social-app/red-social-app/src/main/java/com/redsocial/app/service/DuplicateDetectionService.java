@@ -0,0 +1,114 @@
+package com.redsocial.app.service;
+
+import com.redsocial.app.exception.ValidationException;
+import com.redsocial.app.sketch.SimHash;
+import com.redsocial.app.sketch.SimHashIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Detección de posts casi duplicados (reenvíos con pequeñas variaciones). Cada post recibe una huella
+ * SimHash que se compara con las de los posts recientes en un índice por bandas en memoria. Solo se rechaza
+ * (con {@code app.duplicates.action=REJECT}) el casi duplicado de un post reciente del mismo autor: que dos
+ * usuarios publiquen el mismo texto (una cita, una noticia compartida) es normal y solo se registra.
+ * La ventana vive en memoria y empieza vacía tras un reinicio.
+ */
+@Service
+public class DuplicateDetectionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DuplicateDetectionService.class);
+
+    public enum Action { REJECT, FLAG }
+
+    private record Entry(UUID postId, UUID authorId) {
+    }
+
+    private final SimHashIndex<Entry> index;
+    private final Counter sameAuthor;
+    private final Counter otherAuthor;
+    private final boolean enabled;
+    private final Action action;
+    private final int maxDistance;
+    private final int minLength;
+    private final long windowMillis;
+
+    public DuplicateDetectionService(MeterRegistry meterRegistry,
+                                     @Value("${app.duplicates.enabled:true}") boolean enabled,
+                                     @Value("${app.duplicates.action:REJECT}") Action action,
+                                     @Value("${app.duplicates.window-size:100000}") int windowSize,
+                                     @Value("${app.duplicates.window-hours:24}") int windowHours,
+                                     @Value("${app.duplicates.max-distance:3}") int maxDistance,
+                                     @Value("${app.duplicates.min-length:30}") int minLength) {
+        if (maxDistance > SimHashIndex.MAX_DISTANCE) {
+            throw new IllegalArgumentException("app.duplicates.max-distance no puede superar " + SimHashIndex.MAX_DISTANCE);
+        }
+        this.enabled = enabled;
+        this.action = action;
+        this.maxDistance = maxDistance;
+        this.minLength = minLength;
+        this.windowMillis = TimeUnit.HOURS.toMillis(windowHours);
+        this.index = new SimHashIndex<>(windowSize);
+        this.sameAuthor = Counter.builder("app.duplicates.detected")
+                .description("Posts casi duplicados de otro reciente")
+                .tag("author", "same")
+                .tag("action", action.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry);
+        this.otherAuthor = Counter.builder("app.duplicates.detected")
+                .description("Posts casi duplicados de otro reciente")
+                .tag("author", "other")
+                .tag("action", "flag")
+                .register(meterRegistry);
+        meterRegistry.gauge("app.duplicates.window", index, SimHashIndex::size);
+    }
+
+    /**
+     * Compara el post con la ventana reciente y lo añade a ella. Debe llamarse dentro de la transacción
+     * que crea el post: si no llega a confirmarse, su huella se retira del índice.
+     *
+     * @throws ValidationException si es un duplicado de otro post del mismo autor y la acción configurada
+     *                             es {@code REJECT}
+     */
+    public void check(UUID postId, UUID authorId, String content) {
+        if (!enabled || content == null || content.length() < minLength) {
+            return;
+        }
+        long fingerprint = SimHash.fingerprint(content);
+        long now = System.currentTimeMillis();
+        Entry entry = new Entry(postId, authorId);
+        SimHashIndex.Match<Entry> match = index.nearest(fingerprint, maxDistance, now - windowMillis,
+                candidate -> candidate.authorId().equals(authorId));
+        if (match != null) {
+            sameAuthor.increment();
+            if (action == Action.REJECT) {
+                logger.warn("Post rechazado por ser casi duplicado de {} (distancia {})", match.key().postId(), match.distance());
+                throw new ValidationException("El contenido es casi idéntico al de una publicación reciente");
+            }
+            logger.warn("Post {} marcado como casi duplicado de {} (distancia {})", postId, match.key().postId(), match.distance());
+        } else if ((match = index.nearest(fingerprint, maxDistance, now - windowMillis)) != null) {
+            otherAuthor.increment();
+            logger.info("Post {} casi duplicado de {}, de otro autor (distancia {})", postId, match.key().postId(), match.distance());
+        }
+
+        index.add(entry, fingerprint, now);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        index.remove(entry, fingerprint);
+                    }
+                }
+            });
+        }
+    }
+}
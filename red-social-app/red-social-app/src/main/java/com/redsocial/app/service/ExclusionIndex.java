@@ -0,0 +1,207 @@
+package com.redsocial.app.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.redsocial.app.events.BroadcastEventListener;
+import com.redsocial.app.events.DomainEvent;
+import com.redsocial.app.model.ExclusionKind;
+import com.redsocial.app.model.UserExclusionId;
+import com.redsocial.app.repository.UserExclusionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Índice en memoria de silenciados y bloqueos, con la misma representación que {@link FollowGraphIndex}:
+ * enteros densos por usuario y arrays ordenados por usuario (silenciados, bloqueados y quienes le bloquean).
+ * Filtrar una página del feed es una búsqueda binaria por autor bajo un único bloqueo de lectura.
+ * Los cambios hechos en otras instancias llegan por el outbox ({@code ExclusionChanged}).
+ */
+@Component
+public class ExclusionIndex implements BroadcastEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExclusionIndex.class);
+    private static final int[] EMPTY = new int[0];
+
+    private final UserExclusionRepository exclusionRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> denseIds = new HashMap<>();
+    private final List<UUID> uuids = new ArrayList<>();
+    private int[][] muted = new int[16][];
+    private int[][] blocked = new int[16][];
+    private int[][] blockedBy = new int[16][];
+
+    public ExclusionIndex(UserExclusionRepository exclusionRepository) {
+        this.exclusionRepository = exclusionRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        long count = 0;
+        lock.writeLock().lock();
+        try (Stream<UserExclusionId> ids = exclusionRepository.streamAllIds()) {
+            for (UserExclusionId id : (Iterable<UserExclusionId>) ids::iterator) {
+                addEdge(id.getUserId(), id.getTargetId(), id.getKind());
+                count++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Índice de silenciados y bloqueos cargado: {} usuarios, {} exclusiones", uuids.size(), count);
+    }
+
+    public void add(UUID userId, UUID targetId, ExclusionKind kind) {
+        write(() -> addEdge(userId, targetId, kind));
+    }
+
+    public void remove(UUID userId, UUID targetId, ExclusionKind kind) {
+        write(() -> {
+            Integer from = denseIds.get(userId);
+            Integer to = denseIds.get(targetId);
+            if (from == null || to == null) {
+                return;
+            }
+            if (kind == ExclusionKind.MUTE) {
+                muted[from] = remove(muted[from], to);
+            } else {
+                blocked[from] = remove(blocked[from], to);
+                blockedBy[to] = remove(blockedBy[to], from);
+            }
+        });
+    }
+
+    @Override
+    public Set<String> eventTypes() {
+        return Set.of(DomainEvent.EXCLUSION_CHANGED);
+    }
+
+    /**
+     * Deja la exclusión del evento como esté en la tabla: el evento solo indica qué par ha cambiado,
+     * así que reentregas y desórdenes no dejan el índice en un estado antiguo.
+     */
+    @Override
+    public void onEvent(DomainEvent event) {
+        JsonNode payload = event.payload();
+        UUID targetId = UUID.fromString(payload.get("targetId").asText());
+        ExclusionKind kind = ExclusionKind.valueOf(payload.get("kind").asText());
+        if (exclusionRepository.existsById(new UserExclusionId(event.aggregateId(), targetId, kind))) {
+            add(event.aggregateId(), targetId, kind);
+        } else {
+            remove(event.aggregateId(), targetId, kind);
+        }
+    }
+
+    /**
+     * Si {@code viewerId} tiene algún autor oculto: sin exclusiones el feed no necesita filtrarse.
+     */
+    public boolean hasExclusions(UUID viewerId) {
+        lock.readLock().lock();
+        try {
+            Integer viewer = denseIds.get(viewerId);
+            return viewer != null && (muted[viewer].length > 0 || blocked[viewer].length > 0 || blockedBy[viewer].length > 0);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Para cada autor indicado, si sus posts deben ocultarse a {@code viewerId}, en el mismo orden.
+     */
+    public boolean[] hidden(UUID viewerId, List<UUID> authorIds) {
+        boolean[] hidden = new boolean[authorIds.size()];
+        lock.readLock().lock();
+        try {
+            Integer viewer = denseIds.get(viewerId);
+            if (viewer == null) {
+                return hidden;
+            }
+            for (int i = 0; i < hidden.length; i++) {
+                Integer author = denseIds.get(authorIds.get(i));
+                hidden[i] = author != null
+                        && (Arrays.binarySearch(muted[viewer], author) >= 0
+                            || Arrays.binarySearch(blocked[viewer], author) >= 0
+                            || Arrays.binarySearch(blockedBy[viewer], author) >= 0);
+            }
+            return hidden;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Runnable mutation) {
+        lock.writeLock().lock();
+        try {
+            mutation.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addEdge(UUID userId, UUID targetId, ExclusionKind kind) {
+        int from = denseId(userId);
+        int to = denseId(targetId);
+        if (kind == ExclusionKind.MUTE) {
+            muted[from] = insert(muted[from], to);
+        } else {
+            blocked[from] = insert(blocked[from], to);
+            blockedBy[to] = insert(blockedBy[to], from);
+        }
+    }
+
+    private int denseId(UUID uuid) {
+        Integer existing = denseIds.get(uuid);
+        if (existing != null) {
+            return existing;
+        }
+        int id = uuids.size();
+        uuids.add(uuid);
+        denseIds.put(uuid, id);
+        if (id == muted.length) {
+            muted = Arrays.copyOf(muted, id * 2);
+            blocked = Arrays.copyOf(blocked, id * 2);
+            blockedBy = Arrays.copyOf(blockedBy, id * 2);
+        }
+        muted[id] = EMPTY;
+        blocked[id] = EMPTY;
+        blockedBy[id] = EMPTY;
+        return id;
+    }
+
+    private static int[] insert(int[] row, int value) {
+        int pos = Arrays.binarySearch(row, value);
+        if (pos >= 0) {
+            return row;
+        }
+        pos = -pos - 1;
+        int[] grown = new int[row.length + 1];
+        System.arraycopy(row, 0, grown, 0, pos);
+        grown[pos] = value;
+        System.arraycopy(row, pos, grown, pos + 1, row.length - pos);
+        return grown;
+    }
+
+    private static int[] remove(int[] row, int value) {
+        int pos = Arrays.binarySearch(row, value);
+        if (pos < 0) {
+            return row;
+        }
+        int[] shrunk = new int[row.length - 1];
+        System.arraycopy(row, 0, shrunk, 0, pos);
+        System.arraycopy(row, pos + 1, shrunk, pos, row.length - pos - 1);
+        return shrunk;
+    }
+}
@@ -0,0 +1,99 @@
+package com.redsocial.app.service;
+
+import com.redsocial.app.events.DomainEvent;
+import com.redsocial.app.exception.ResourceNotFoundException;
+import com.redsocial.app.exception.ValidationException;
+import com.redsocial.app.model.ExclusionKind;
+import com.redsocial.app.model.UserExclusion;
+import com.redsocial.app.model.UserExclusionId;
+import com.redsocial.app.repository.UserExclusionRepository;
+import com.redsocial.app.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Silenciar y bloquear usuarios. La tabla {@code user_exclusions} es la fuente de verdad;
+ * el índice en memoria de esta instancia se actualiza solo cuando la transacción confirma, y el de las
+ * demás al leer el evento {@code ExclusionChanged} del outbox.
+ */
+@Service
+public class ExclusionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExclusionService.class);
+
+    private final UserExclusionRepository exclusionRepository;
+    private final UserRepository userRepository;
+    private final FollowService followService;
+    private final ExclusionIndex exclusionIndex;
+    private final OutboxService outboxService;
+
+    public ExclusionService(UserExclusionRepository exclusionRepository, UserRepository userRepository,
+                            FollowService followService, ExclusionIndex exclusionIndex, OutboxService outboxService) {
+        this.exclusionRepository = exclusionRepository;
+        this.userRepository = userRepository;
+        this.followService = followService;
+        this.exclusionIndex = exclusionIndex;
+        this.outboxService = outboxService;
+    }
+
+    @Transactional
+    public void exclude(UUID userId, UUID targetId, ExclusionKind kind) {
+        validatePair(userId, targetId);
+        if (!userRepository.existsById(targetId)) {
+            throw new ResourceNotFoundException("Usuario no encontrado");
+        }
+
+        UserExclusionId id = new UserExclusionId(userId, targetId, kind);
+        if (exclusionRepository.existsById(id)) {
+            return;
+        }
+        exclusionRepository.save(new UserExclusion(id));
+        if (kind == ExclusionKind.BLOCK) {
+            // Un bloqueo deshace el seguimiento en ambos sentidos
+            followService.unfollow(userId, targetId);
+            followService.unfollow(targetId, userId);
+        }
+        outboxService.append(DomainEvent.USER, userId, DomainEvent.EXCLUSION_CHANGED, Map.of("targetId", targetId, "kind", kind));
+        afterCommit(() -> exclusionIndex.add(userId, targetId, kind));
+        logger.info("Usuario {} aplica {} a {}", userId, kind, targetId);
+    }
+
+    @Transactional
+    public void include(UUID userId, UUID targetId, ExclusionKind kind) {
+        validatePair(userId, targetId);
+
+        UserExclusionId id = new UserExclusionId(userId, targetId, kind);
+        if (!exclusionRepository.existsById(id)) {
+            return;
+        }
+        exclusionRepository.deleteById(id);
+        outboxService.append(DomainEvent.USER, userId, DomainEvent.EXCLUSION_CHANGED, Map.of("targetId", targetId, "kind", kind));
+        afterCommit(() -> exclusionIndex.remove(userId, targetId, kind));
+        logger.info("Usuario {} retira {} a {}", userId, kind, targetId);
+    }
+
+    private void validatePair(UUID userId, UUID targetId) {
+        if (userId == null || targetId == null) {
+            throw new ValidationException("El ID del usuario no puede ser nulo");
+        }
+        if (userId.equals(targetId)) {
+            throw new ValidationException("Un usuario no puede silenciarse ni bloquearse a sí mismo");
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,302 @@
+package com.redsocial.app.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.redsocial.app.dto.CursorPage;
+import com.redsocial.app.events.DomainEvent;
+import com.redsocial.app.events.DomainEventListener;
+import com.redsocial.app.repository.PostAuthorStamp;
+import com.redsocial.app.repository.PostRepository;
+import com.redsocial.app.repository.PostStamp;
+import com.redsocial.app.snapshot.SnapshotReader;
+import com.redsocial.app.snapshot.SnapshotWriter;
+import com.redsocial.app.snapshot.Snapshottable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Feed de "personas que sigo": mezcla k-way, con un montículo, de las líneas temporales recientes
+ * de cada autor seguido, en lugar de una consulta SQL con un {@code IN} de todos los autores.
+ * Las líneas temporales (ID y fecha de los últimos {@code app.follow-feed.timeline-size} posts) se cachean por
+ * autor, se cargan de una vez para todos los autores que faltan y se actualizan al publicar; más allá de lo
+ * cacheado, el feed continúa con una consulta por clave sobre los autores seguidos. Los posts creados en
+ * otra instancia solo llegan al recargar la línea temporal, que caduca {@code app.follow-feed.timeline-ttl-seconds}
+ * después de cargarse (las actualizaciones locales no alargan ese plazo). Las líneas temporales
+ * cacheadas se vuelcan a una instantánea en disco para no recargarlas todas de la base de datos tras un reinicio.
+ */
+@Service
+public class FollowFeedService implements DomainEventListener, Snapshottable {
+
+    /**
+     * Últimos posts de un autor en el orden del feed. Si no está completa ({@code complete}), puede haber posts
+     * del autor anteriores al último que no están en caché.
+     */
+    private record Timeline(UUID[] ids, long[] times, boolean complete) {
+
+        private static final Timeline EMPTY = new Timeline(new UUID[0], new long[0], true);
+
+        /**
+         * Primera posición que va estrictamente después de ({@code time}, {@code id}) en el orden del feed.
+         */
+        int firstAfter(long time, UUID id) {
+            int low = 0;
+            int high = times.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compare(times[mid], ids[mid], time, id) <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    private static final class Cursor {
+        private final Timeline timeline;
+        private int position;
+
+        private Cursor(Timeline timeline, int position) {
+            this.timeline = timeline;
+            this.position = position;
+        }
+
+        private long time() {
+            return timeline.times()[position];
+        }
+
+        private UUID id() {
+            return timeline.ids()[position];
+        }
+    }
+
+    private final PostRepository postRepository;
+    private final FollowGraphIndex followGraph;
+    private final Cache<UUID, Timeline> timelines;
+    private final int timelineSize;
+    private final int maxCatchUpPosts;
+
+    public FollowFeedService(PostRepository postRepository, FollowGraphIndex followGraph,
+                             @Value("${app.follow-feed.timeline-size:200}") int timelineSize,
+                             @Value("${app.follow-feed.cached-authors:50000}") long cachedAuthors,
+                             @Value("${app.follow-feed.timeline-ttl-seconds:30}") long timelineTtlSeconds,
+                             @Value("${app.snapshots.max-catch-up-posts:50000}") int maxCatchUpPosts) {
+        this.postRepository = postRepository;
+        this.followGraph = followGraph;
+        this.timelineSize = timelineSize;
+        this.maxCatchUpPosts = maxCatchUpPosts;
+        this.timelines = Caffeine.newBuilder()
+                .maximumSize(cachedAuthors)
+                .expireAfter(Expiry.creating((UUID authorId, Timeline timeline) -> Duration.ofSeconds(timelineTtlSeconds)))
+                .build();
+    }
+
+    /**
+     * IDs de los posts de los autores que sigue {@code userId}, del más reciente al más antiguo (fecha y,
+     * a igual fecha, ID), posteriores al cursor (o desde el principio si es nulo).
+     */
+    public CursorPage<UUID> feedPostIds(UUID userId, KeysetCursor after, int size) {
+        List<UUID> authors = followGraph.following(userId);
+        Map<UUID, Timeline> cached = timelines.getAll(authors, this::loadTimelines);
+
+        PriorityQueue<Cursor> heap = new PriorityQueue<>(Math.max(1, authors.size()),
+                (a, b) -> compare(a.time(), a.id(), b.time(), b.id()));
+        // Tras el último post de una línea temporal incompleta pueden faltar posts de su autor: la mezcla
+        // se detiene en el primero de esos límites y el resto de la página sale de la base de datos
+        Cursor bound = null;
+        for (Timeline timeline : cached.values()) {
+            int length = timeline.ids().length;
+            int start = after == null ? 0 : timeline.firstAfter(toMicros(after.createdAt()), after.id());
+            if (start < length) {
+                heap.add(new Cursor(timeline, start));
+            }
+            if (!timeline.complete() && length > 0 && (bound == null
+                    || compare(timeline.times()[length - 1], timeline.ids()[length - 1], bound.time(), bound.id()) < 0)) {
+                bound = new Cursor(timeline, length - 1);
+            }
+        }
+
+        List<UUID> result = new ArrayList<>(size);
+        KeysetCursor last = after;
+        while (result.size() < size && !heap.isEmpty()
+                && (bound == null || compare(heap.peek().time(), heap.peek().id(), bound.time(), bound.id()) <= 0)) {
+            Cursor cursor = heap.poll();
+            result.add(cursor.id());
+            last = new KeysetCursor(toTime(cursor.time()), cursor.id());
+            if (++cursor.position < cursor.timeline.ids().length) {
+                heap.add(cursor);
+            }
+        }
+
+        boolean more = !heap.isEmpty() || bound != null;
+        if (result.size() < size && bound != null && last != null) {
+            int remaining = size - result.size();
+            List<PostStamp> older = postRepository.findStampsByUserIdInBefore(authors, last.createdAt(), last.id(),
+                    Limit.of(remaining + 1));
+            for (PostStamp stamp : older.subList(0, Math.min(remaining, older.size()))) {
+                result.add(stamp.getId());
+                last = new KeysetCursor(stamp.getCreatedAt(), stamp.getId());
+            }
+            more = older.size() > remaining;
+        }
+        String nextCursor = more && !result.isEmpty() ? last.encode() : null;
+        return new CursorPage<>(result, nextCursor);
+    }
+
+    @Override
+    public boolean supports(String eventType) {
+        return DomainEvent.POST_CREATED.equals(eventType);
+    }
+
+    @Override
+    public void onEvent(DomainEvent event) {
+        onPostCreated(UUID.fromString(event.payload().get("authorId").asText()), event.aggregateId(),
+                OffsetDateTime.parse(event.payload().get("createdAt").asText()));
+    }
+
+    /**
+     * Añade un post recién creado a la línea temporal cacheada de su autor (si está en caché), en su posición
+     * por fecha. Es idempotente: el outbox puede reentregar el mismo evento y la puesta al día de una
+     * instantánea repite los posts de su margen de solapamiento.
+     */
+    public void onPostCreated(UUID authorId, UUID postId, OffsetDateTime createdAt) {
+        timelines.asMap().computeIfPresent(authorId, (id, timeline) -> {
+            long time = toMicros(createdAt);
+            int position = timeline.firstAfter(time, postId);
+            if (position >= timelineSize || Arrays.asList(timeline.ids()).contains(postId)) {
+                return timeline;
+            }
+            // Si se recorta el post más antiguo, la línea temporal deja de tener todos los posts del autor
+            boolean complete = timeline.complete() && timeline.ids().length < timelineSize;
+            int length = Math.min(timeline.ids().length + 1, timelineSize);
+            UUID[] ids = new UUID[length];
+            long[] times = new long[length];
+            System.arraycopy(timeline.ids(), 0, ids, 0, position);
+            System.arraycopy(timeline.times(), 0, times, 0, position);
+            ids[position] = postId;
+            times[position] = time;
+            System.arraycopy(timeline.ids(), position, ids, position + 1, length - position - 1);
+            System.arraycopy(timeline.times(), position, times, position + 1, length - position - 1);
+            return new Timeline(ids, times, complete);
+        });
+    }
+
+    @Override
+    public String snapshotName() {
+        return "follow-feed-timelines";
+    }
+
+    @Override
+    public boolean isSnapshotEmpty() {
+        return timelines.estimatedSize() == 0;
+    }
+
+    @Override
+    public void writeSnapshot(SnapshotWriter out) throws IOException {
+        for (Map.Entry<UUID, Timeline> entry : timelines.asMap().entrySet()) {
+            Timeline timeline = entry.getValue();
+            out.putInt(timeline.ids().length);
+            out.putUuid(entry.getKey());
+            out.putByte((byte) (timeline.complete() ? 1 : 0));
+            for (int i = 0; i < timeline.ids().length; i++) {
+                out.putUuid(timeline.ids()[i]);
+                out.putLong(timeline.times()[i]);
+            }
+        }
+        out.putInt(-1);
+    }
+
+    /**
+     * Publica las líneas temporales de la instantánea (sin pisar las que ya se hayan cargado desde el arranque)
+     * y les añade los posts creados desde {@code since}. Si son demasiados para ponerse al día, las descarta.
+     */
+    @Override
+    public int restoreSnapshot(SnapshotReader in, OffsetDateTime since) throws IOException {
+        Map<UUID, Timeline> restored = new HashMap<>();
+        int length;
+        while ((length = in.getInt()) >= 0) {
+            UUID authorId = in.getUuid();
+            boolean complete = in.getByte() != 0;
+            UUID[] ids = new UUID[length];
+            long[] times = new long[length];
+            for (int i = 0; i < length; i++) {
+                ids[i] = in.getUuid();
+                times[i] = in.getLong();
+            }
+            restored.put(authorId, length == 0 && complete ? Timeline.EMPTY : new Timeline(ids, times, complete));
+        }
+        if (restored.isEmpty()) {
+            return 0;
+        }
+        // Primero se publican y luego se ponen al día, para no perder los posts que lleguen mientras tanto
+        restored.forEach(timelines.asMap()::putIfAbsent);
+        List<PostAuthorStamp> created = postRepository.findAuthorStampsCreatedSince(since, Limit.of(maxCatchUpPosts + 1));
+        if (created.size() > maxCatchUpPosts) {
+            timelines.invalidateAll(restored.keySet());
+            throw new IllegalStateException("Más de " + maxCatchUpPosts + " posts desde la instantánea");
+        }
+        for (PostAuthorStamp stamp : created) {
+            onPostCreated(stamp.getUserId(), stamp.getId(), stamp.getCreatedAt());
+        }
+        return restored.size();
+    }
+
+    /**
+     * Carga las líneas temporales de los autores que no están en caché con una sola consulta.
+     */
+    private Map<UUID, Timeline> loadTimelines(Set<? extends UUID> authorIds) {
+        Map<UUID, List<PostStamp>> byAuthor = new HashMap<>();
+        for (PostAuthorStamp stamp : postRepository.findRecentStampsByUserIdIn(List.copyOf(authorIds), timelineSize)) {
+            byAuthor.computeIfAbsent(stamp.getUserId(), id -> new ArrayList<>()).add(stamp);
+        }
+        Map<UUID, Timeline> loaded = new HashMap<>(authorIds.size());
+        for (UUID authorId : authorIds) {
+            List<PostStamp> stamps = byAuthor.get(authorId);
+            loaded.put(authorId, stamps == null ? Timeline.EMPTY : toTimeline(stamps));
+        }
+        return loaded;
+    }
+
+    private Timeline toTimeline(List<PostStamp> stamps) {
+        List<PostStamp> sorted = stamps.stream()
+                .sorted((a, b) -> compare(toMicros(a.getCreatedAt()), a.getId(), toMicros(b.getCreatedAt()), b.getId()))
+                .toList();
+        UUID[] ids = new UUID[sorted.size()];
+        long[] times = new long[sorted.size()];
+        for (int i = 0; i < sorted.size(); i++) {
+            ids[i] = sorted.get(i).getId();
+            times[i] = toMicros(sorted.get(i).getCreatedAt());
+        }
+        return new Timeline(ids, times, sorted.size() < timelineSize);
+    }
+
+    private static int compare(long timeA, UUID idA, long timeB, UUID idB) {
+        return KeysetCursor.compare(timeA, idA, timeB, idB);
+    }
+
+    private static long toMicros(OffsetDateTime time) {
+        return time.toEpochSecond() * 1_000_000 + time.getNano() / 1_000;
+    }
+
+    private static OffsetDateTime toTime(long micros) {
+        return OffsetDateTime.ofInstant(Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                Math.floorMod(micros, 1_000_000) * 1_000L), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,192 @@
+package com.redsocial.app.service;
+
+import com.redsocial.app.events.BroadcastEventListener;
+import com.redsocial.app.events.DomainEvent;
+import com.redsocial.app.model.FollowId;
+import com.redsocial.app.repository.FollowRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Índice en memoria del grafo de seguimiento. Cada UUID se traduce a un entero denso y las
+ * adyacencias (seguidos y seguidores) se guardan como arrays de enteros ordenados, sin objetos por arista.
+ * Los cambios hechos en otras instancias llegan por el outbox ({@code FollowChanged}).
+ */
+@Component
+public class FollowGraphIndex implements BroadcastEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(FollowGraphIndex.class);
+    private static final int[] EMPTY = new int[0];
+
+    private final FollowRepository followRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> denseIds = new HashMap<>();
+    private final List<UUID> uuids = new ArrayList<>();
+    private int[][] following = new int[16][];
+    private int[][] followers = new int[16][];
+
+    public FollowGraphIndex(FollowRepository followRepository) {
+        this.followRepository = followRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        long edges = 0;
+        lock.writeLock().lock();
+        try (Stream<FollowId> ids = followRepository.streamAllIds()) {
+            for (FollowId id : (Iterable<FollowId>) ids::iterator) {
+                addEdge(id.getFollowerId(), id.getFolloweeId());
+                edges++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Grafo de seguimiento cargado: {} usuarios, {} relaciones", uuids.size(), edges);
+    }
+
+    public void follow(UUID follower, UUID followee) {
+        write(() -> addEdge(follower, followee));
+    }
+
+    public void unfollow(UUID follower, UUID followee) {
+        write(() -> {
+            Integer from = denseIds.get(follower);
+            Integer to = denseIds.get(followee);
+            if (from != null && to != null) {
+                following[from] = remove(following[from], to);
+                followers[to] = remove(followers[to], from);
+            }
+        });
+    }
+
+    @Override
+    public Set<String> eventTypes() {
+        return Set.of(DomainEvent.FOLLOW_CHANGED);
+    }
+
+    /**
+     * Deja la relación del evento como esté en la tabla: reentregas y desórdenes no la dejan en un estado antiguo.
+     */
+    @Override
+    public void onEvent(DomainEvent event) {
+        UUID follower = event.aggregateId();
+        UUID followee = UUID.fromString(event.payload().get("followeeId").asText());
+        if (followRepository.existsById(new FollowId(follower, followee))) {
+            follow(follower, followee);
+        } else {
+            unfollow(follower, followee);
+        }
+    }
+
+    /**
+     * UUIDs de los usuarios que sigue {@code userId}.
+     */
+    public List<UUID> following(UUID userId) {
+        lock.readLock().lock();
+        try {
+            Integer id = denseIds.get(userId);
+            if (id == null) {
+                return List.of();
+            }
+            int[] row = following[id];
+            List<UUID> result = new ArrayList<>(row.length);
+            for (int followee : row) {
+                result.add(uuids.get(followee));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int followingCount(UUID userId) {
+        return degree(userId, true);
+    }
+
+    public int followersCount(UUID userId) {
+        return degree(userId, false);
+    }
+
+    private int degree(UUID userId, boolean outgoing) {
+        lock.readLock().lock();
+        try {
+            Integer id = denseIds.get(userId);
+            return id == null ? 0 : (outgoing ? following[id] : followers[id]).length;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Runnable mutation) {
+        lock.writeLock().lock();
+        try {
+            mutation.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addEdge(UUID follower, UUID followee) {
+        int from = denseId(follower);
+        int to = denseId(followee);
+        following[from] = insert(following[from], to);
+        followers[to] = insert(followers[to], from);
+    }
+
+    private int denseId(UUID uuid) {
+        Integer existing = denseIds.get(uuid);
+        if (existing != null) {
+            return existing;
+        }
+        int id = uuids.size();
+        uuids.add(uuid);
+        denseIds.put(uuid, id);
+        if (id == following.length) {
+            following = Arrays.copyOf(following, id * 2);
+            followers = Arrays.copyOf(followers, id * 2);
+        }
+        following[id] = EMPTY;
+        followers[id] = EMPTY;
+        return id;
+    }
+
+    private static int[] insert(int[] row, int value) {
+        int pos = Arrays.binarySearch(row, value);
+        if (pos >= 0) {
+            return row;
+        }
+        pos = -pos - 1;
+        int[] grown = new int[row.length + 1];
+        System.arraycopy(row, 0, grown, 0, pos);
+        grown[pos] = value;
+        System.arraycopy(row, pos, grown, pos + 1, row.length - pos);
+        return grown;
+    }
+
+    private static int[] remove(int[] row, int value) {
+        int pos = Arrays.binarySearch(row, value);
+        if (pos < 0) {
+            return row;
+        }
+        int[] shrunk = new int[row.length - 1];
+        System.arraycopy(row, 0, shrunk, 0, pos);
+        System.arraycopy(row, pos + 1, shrunk, pos, row.length - pos - 1);
+        return shrunk;
+    }
+}
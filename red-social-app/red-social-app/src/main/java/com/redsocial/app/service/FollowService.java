@@ -0,0 +1,114 @@
+package com.redsocial.app.service;
+
+import com.redsocial.app.dto.FollowStatsResponse;
+import com.redsocial.app.events.DomainEvent;
+import com.redsocial.app.exception.ResourceNotFoundException;
+import com.redsocial.app.exception.ValidationException;
+import com.redsocial.app.model.ExclusionKind;
+import com.redsocial.app.model.Follow;
+import com.redsocial.app.model.FollowId;
+import com.redsocial.app.model.UserExclusionId;
+import com.redsocial.app.repository.FollowRepository;
+import com.redsocial.app.repository.UserExclusionRepository;
+import com.redsocial.app.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Seguir / dejar de seguir usuarios. La tabla {@code follows} es la fuente de verdad;
+ * el índice en memoria de esta instancia se actualiza solo cuando la transacción confirma, y el de las
+ * demás al leer el evento {@code FollowChanged} del outbox.
+ */
+@Service
+public class FollowService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FollowService.class);
+
+    private final FollowRepository followRepository;
+    private final UserRepository userRepository;
+    private final FollowGraphIndex followGraph;
+    private final UserExclusionRepository exclusionRepository;
+    private final OutboxService outboxService;
+
+    public FollowService(FollowRepository followRepository, UserRepository userRepository,
+                         FollowGraphIndex followGraph, UserExclusionRepository exclusionRepository,
+                         OutboxService outboxService) {
+        this.followRepository = followRepository;
+        this.userRepository = userRepository;
+        this.followGraph = followGraph;
+        this.exclusionRepository = exclusionRepository;
+        this.outboxService = outboxService;
+    }
+
+    @Transactional
+    public void follow(UUID followerId, UUID followeeId) {
+        validatePair(followerId, followeeId);
+        if (!userRepository.existsById(followeeId)) {
+            throw new ResourceNotFoundException("Usuario no encontrado");
+        }
+        // Contra la tabla y no contra el índice: un bloqueo recién hecho en otra instancia aún puede no haber llegado
+        if (blockedBetween(followerId, followeeId)) {
+            throw new ValidationException("No se puede seguir a este usuario");
+        }
+
+        FollowId id = new FollowId(followerId, followeeId);
+        if (followRepository.existsById(id)) {
+            return;
+        }
+        followRepository.save(new Follow(id));
+        outboxService.append(DomainEvent.USER, followerId, DomainEvent.FOLLOW_CHANGED, Map.of("followeeId", followeeId));
+        afterCommit(() -> followGraph.follow(followerId, followeeId));
+        logger.info("Usuario {} sigue ahora a {}", followerId, followeeId);
+    }
+
+    @Transactional
+    public void unfollow(UUID followerId, UUID followeeId) {
+        validatePair(followerId, followeeId);
+
+        FollowId id = new FollowId(followerId, followeeId);
+        if (!followRepository.existsById(id)) {
+            return;
+        }
+        followRepository.deleteById(id);
+        outboxService.append(DomainEvent.USER, followerId, DomainEvent.FOLLOW_CHANGED, Map.of("followeeId", followeeId));
+        afterCommit(() -> followGraph.unfollow(followerId, followeeId));
+        logger.info("Usuario {} deja de seguir a {}", followerId, followeeId);
+    }
+
+    public FollowStatsResponse stats(UUID userId) {
+        if (userId == null) {
+            throw new ValidationException("El ID del usuario no puede ser nulo");
+        }
+        return new FollowStatsResponse(userId, followGraph.followersCount(userId), followGraph.followingCount(userId));
+    }
+
+    private boolean blockedBetween(UUID userId, UUID otherId) {
+        return exclusionRepository.existsById(new UserExclusionId(userId, otherId, ExclusionKind.BLOCK))
+                || exclusionRepository.existsById(new UserExclusionId(otherId, userId, ExclusionKind.BLOCK));
+    }
+
+    private void validatePair(UUID followerId, UUID followeeId) {
+        if (followerId == null || followeeId == null) {
+            throw new ValidationException("El ID del usuario no puede ser nulo");
+        }
+        if (followerId.equals(followeeId)) {
+            throw new ValidationException("Un usuario no puede seguirse a sí mismo");
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,52 @@
+package com.redsocial.app.service;
+
+import com.redsocial.app.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Cursor opaco para paginación por clave: codifica la fecha y el ID del último elemento devuelto.
+ */
+public record KeysetCursor(OffsetDateTime createdAt, UUID id) {
+
+    /**
+     * Orden de paginación: fecha (en microsegundos) descendente y, a igual fecha, ID descendente. Negativo si (a)
+     * va antes que (b). Los IDs se comparan como bytes sin signo, igual que la base de datos (y no como
+     * {@link UUID#compareTo}), para que el orden de las cachés coincida con el de {@code id < :beforeId}.
+     */
+    public static int compare(long timeA, UUID idA, long timeB, UUID idB) {
+        int byTime = Long.compare(timeB, timeA);
+        if (byTime != 0) {
+            return byTime;
+        }
+        int byHigh = Long.compareUnsigned(idB.getMostSignificantBits(), idA.getMostSignificantBits());
+        return byHigh != 0 ? byHigh : Long.compareUnsigned(idB.getLeastSignificantBits(), idA.getLeastSignificantBits());
+    }
+
+    public String encode() {
+        Instant instant = createdAt.toInstant();
+        String raw = instant.getEpochSecond() + ":" + instant.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return el cursor, o {@code null} si no se indicó ninguno
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":", 3);
+            Instant instant = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new KeysetCursor(OffsetDateTime.ofInstant(instant, ZoneOffset.UTC), UUID.fromString(parts[2]));
+        } catch (RuntimeException e) {
+            throw new ValidationException("Cursor de paginación no válido");
+        }
+    }
+}
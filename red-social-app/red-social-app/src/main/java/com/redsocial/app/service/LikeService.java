@@ -0,0 +1,90 @@
+package com.redsocial.app.service;
+
+import com.redsocial.app.events.DomainEvent;
+import com.redsocial.app.exception.ResourceNotFoundException;
+import com.redsocial.app.exception.ValidationException;
+import com.redsocial.app.repository.PostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Dar y quitar "me gusta". {@code post_likes} es la fuente de verdad y {@code likes_count} se actualiza
+ * en la misma transacción; el estado en memoria del usuario se actualiza solo si la transacción confirma.
+ * La fila se inserta con {@code on conflict do nothing} y se borra contando filas, de modo que dos peticiones
+ * simultáneas (un doble clic) no chocan con la clave primaria ni ajustan el contador dos veces.
+ */
+@Service
+public class LikeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LikeService.class);
+
+    private static final String INSERT_LIKE_SQL =
+            "insert into post_likes (user_id, post_id, created_at) values (?, ?, ?) on conflict do nothing";
+    private static final String DELETE_LIKE_SQL = "delete from post_likes where user_id = ? and post_id = ?";
+    private static final String ADJUST_COUNT_SQL = "update posts set likes_count = greatest(likes_count + ?, 0) where id = ?";
+
+    private final PostRepository postRepository;
+    private final ViewerStateService viewerStateService;
+    private final OutboxService outboxService;
+    private final JdbcTemplate jdbcTemplate;
+
+    public LikeService(PostRepository postRepository, ViewerStateService viewerStateService,
+                       OutboxService outboxService, JdbcTemplate jdbcTemplate) {
+        this.postRepository = postRepository;
+        this.viewerStateService = viewerStateService;
+        this.outboxService = outboxService;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional
+    public void like(UUID userId, UUID postId) {
+        validateIds(userId, postId);
+        if (!postRepository.existsById(postId)) {
+            throw new ResourceNotFoundException("Post no encontrado");
+        }
+
+        if (jdbcTemplate.update(INSERT_LIKE_SQL, userId, postId, OffsetDateTime.now()) == 0) {
+            return;
+        }
+        jdbcTemplate.update(ADJUST_COUNT_SQL, 1, postId);
+        outboxService.append(DomainEvent.POST, postId, DomainEvent.POST_LIKED, Map.of("userId", userId));
+        afterCommit(() -> viewerStateService.onLiked(userId, postId));
+        logger.info("Usuario {} da me gusta al post {}", userId, postId);
+    }
+
+    @Transactional
+    public void unlike(UUID userId, UUID postId) {
+        validateIds(userId, postId);
+
+        if (jdbcTemplate.update(DELETE_LIKE_SQL, userId, postId) == 0) {
+            return;
+        }
+        jdbcTemplate.update(ADJUST_COUNT_SQL, -1, postId);
+        afterCommit(() -> viewerStateService.onUnliked(userId, postId));
+        logger.info("Usuario {} quita el me gusta al post {}", userId, postId);
+    }
+
+    private void validateIds(UUID userId, UUID postId) {
+        if (userId == null || postId == null) {
+            throw new ValidationException("Los IDs de usuario y post no pueden ser nulos");
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
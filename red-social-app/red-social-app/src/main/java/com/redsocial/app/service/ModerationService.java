@@ -0,0 +1,165 @@
+package com.redsocial.app.service;
+
+import com.redsocial.app.exception.ValidationException;
+import com.redsocial.app.moderation.AhoCorasick;
+import com.redsocial.app.moderation.ModerationRule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Moderación de contenido al publicar. Las reglas se leen de {@code app.moderation.rules-file} y se compilan
+ * en un autómata de Aho-Corasick, de modo que cada post se revisa en una sola pasada con independencia del
+ * número de reglas. El fichero se vigila periódicamente: si cambia, el nuevo autómata se construye aparte y
+ * sustituye al anterior de forma atómica; si tiene errores se mantienen las reglas vigentes. La métrica
+ * {@code app.moderation.hits} identifica cada regla por su número de línea en el fichero, no por el patrón:
+ * el endpoint de Prometheus es público y no debe exponer la lista de términos bloqueados.
+ */
+@Service
+public class ModerationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ModerationService.class);
+
+    private record Ruleset(List<ModerationRule> rules, int[] lines, AhoCorasick automaton, Counter[] hits) {
+
+        private static final Ruleset EMPTY = new Ruleset(List.of(), new int[0], AhoCorasick.build(List.of()), new Counter[0]);
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Path rulesFile;
+    private volatile Ruleset ruleset = Ruleset.EMPTY;
+    // Versión del fichero del último intento, válido o no: un fichero erróneo no se reintenta hasta que cambie
+    private FileTime attempted;
+
+    public ModerationService(MeterRegistry meterRegistry,
+                             @Value("${app.moderation.enabled:true}") boolean enabled,
+                             @Value("${app.moderation.rules-file:moderation-rules.txt}") String rulesFile) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.rulesFile = Path.of(rulesFile);
+    }
+
+    @PostConstruct
+    public void load() {
+        meterRegistry.gauge("app.moderation.rules", this, service -> service.ruleset.rules().size());
+        if (!enabled) {
+            return;
+        }
+        if (!Files.isRegularFile(rulesFile)) {
+            logger.info("Moderación sin reglas: no existe el fichero {}", rulesFile.toAbsolutePath());
+            return;
+        }
+        reloadIfChanged();
+    }
+
+    /**
+     * Revisa los textos de un post: lanza {@link ValidationException} si alguno coincide con una regla
+     * {@code block}; las coincidencias con reglas {@code flag} solo se registran.
+     */
+    public void check(String... texts) {
+        Ruleset current = ruleset;
+        if (current.rules().isEmpty()) {
+            return;
+        }
+        BitSet matched = new BitSet();
+        for (String text : texts) {
+            if (text == null || text.isEmpty()) {
+                continue;
+            }
+            current.automaton().search(text, (pattern, start, end) -> {
+                if (!matched.get(pattern) && current.rules().get(pattern).accepts(text, start, end)) {
+                    matched.set(pattern);
+                }
+            });
+        }
+
+        boolean blocked = false;
+        for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+            ModerationRule rule = current.rules().get(i);
+            current.hits()[i].increment();
+            if (rule.action() == ModerationRule.Action.BLOCK) {
+                blocked = true;
+                logger.info("Contenido rechazado por la regla de moderación de la línea {} ('{}')",
+                        current.lines()[i], rule.pattern());
+            } else {
+                logger.warn("Contenido marcado por la regla de moderación de la línea {} ('{}')",
+                        current.lines()[i], rule.pattern());
+            }
+        }
+        if (blocked) {
+            throw new ValidationException("El contenido del post incumple las normas de publicación");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.moderation.reload-interval-ms:5000}")
+    public synchronized void reloadIfChanged() {
+        if (!enabled || !Files.isRegularFile(rulesFile)) {
+            return;
+        }
+        try {
+            FileTime modified = Files.getLastModifiedTime(rulesFile);
+            if (modified.equals(attempted)) {
+                return;
+            }
+            attempted = modified;
+            List<ModerationRule> rules = new ArrayList<>();
+            List<Integer> ruleLines = new ArrayList<>();
+            List<String> lines = Files.readAllLines(rulesFile, StandardCharsets.UTF_8);
+            for (int i = 0; i < lines.size(); i++) {
+                try {
+                    ModerationRule rule = ModerationRule.parse(lines.get(i));
+                    if (rule != null) {
+                        rules.add(rule);
+                        ruleLines.add(i + 1);
+                    }
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("línea " + (i + 1) + ": " + e.getMessage(), e);
+                }
+            }
+
+            long start = System.nanoTime();
+            AhoCorasick automaton = AhoCorasick.build(rules.stream().map(ModerationRule::pattern).toList());
+            int[] ruleLine = ruleLines.stream().mapToInt(Integer::intValue).toArray();
+            Counter[] hits = new Counter[rules.size()];
+            for (int i = 0; i < rules.size(); i++) {
+                hits[i] = Counter.builder("app.moderation.hits")
+                        .description("Posts que han coincidido con cada regla de moderación (línea del fichero)")
+                        .tag("rule", String.valueOf(ruleLine[i]))
+                        .tag("action", rules.get(i).action().name().toLowerCase(Locale.ROOT))
+                        .register(meterRegistry);
+                logger.debug("Regla de moderación de la línea {}: {} {} '{}'", ruleLine[i],
+                        rules.get(i).action(), rules.get(i).kind(), rules.get(i).pattern());
+            }
+            Ruleset previous = ruleset;
+            ruleset = new Ruleset(List.copyOf(rules), ruleLine, automaton, hits);
+            // Las series de líneas que ya no tienen regla se retiran para no acumularlas en cada recarga
+            List<Counter> current = List.of(hits);
+            for (Counter counter : previous.hits()) {
+                if (!current.contains(counter)) {
+                    meterRegistry.remove(counter);
+                }
+            }
+            logger.info("Reglas de moderación cargadas: {} patrones, {} nodos, {} ms",
+                    rules.size(), automaton.nodeCount(), (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warn("No se pudieron cargar las reglas de moderación de {}, se mantienen las vigentes: {}",
+                    rulesFile, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.redsocial.app.service;
+
+import com.redsocial.app.repository.PostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Archivado periódico de posts fríos: los posts más antiguos que el horizonte configurado
+ * se mueven en lotes a {@code posts_archive}.
+ */
+@Service
+public class PostArchivalService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostArchivalService.class);
+
+    private final PostRepository postRepository;
+    private final boolean enabled;
+    private final int horizonDays;
+    private final int batchSize;
+
+    public PostArchivalService(PostRepository postRepository,
+                               @Value("${app.posts.archive.enabled:false}") boolean enabled,
+                               @Value("${app.posts.archive.horizon-days:365}") int horizonDays,
+                               @Value("${app.posts.archive.batch-size:500}") int batchSize) {
+        this.postRepository = postRepository;
+        this.enabled = enabled;
+        this.horizonDays = horizonDays;
+        this.batchSize = batchSize;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Fecha a partir de la cual los posts siguen en la tabla caliente.
+     */
+    public OffsetDateTime hotCutoff() {
+        return OffsetDateTime.now().minusDays(horizonDays);
+    }
+
+    @Scheduled(cron = "${app.posts.archive.cron:0 15 * * * *}")
+    public void archiveColdPosts() {
+        if (!enabled) {
+            return;
+        }
+
+        OffsetDateTime cutoff = hotCutoff();
+        int total = 0;
+        int archived;
+        do {
+            archived = postRepository.archiveCreatedBefore(cutoff, batchSize);
+            total += archived;
+        } while (archived == batchSize);
+
+        if (total > 0) {
+            logger.info("Se archivaron {} posts anteriores a {}", total, cutoff);
+        }
+    }
+}
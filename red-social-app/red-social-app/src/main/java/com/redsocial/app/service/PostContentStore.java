@@ -0,0 +1,118 @@
+package com.redsocial.app.service;
+
+import com.redsocial.app.sketch.OffHeapTextStore;
+import com.redsocial.app.snapshot.SnapshotReader;
+import com.redsocial.app.snapshot.SnapshotWriter;
+import com.redsocial.app.snapshot.Snapshottable;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Contenido de los posts fuera del heap ({@link OffHeapTextStore}) para hidratar los feeds sin leer ni
+ * retener en memoria los textos de millones de posts. El contenido de un post no cambia tras crearse,
+ * así que las entradas nunca quedan obsoletas: solo se reciclan por falta de espacio. Por lo mismo, la
+ * instantánea en disco se restaura sin ponerse al día: los posts nuevos entran al crearse o al leerse.
+ */
+@Service
+public class PostContentStore implements Snapshottable {
+
+    private final boolean enabled;
+    private final OffHeapTextStore store;
+    private final Counter hits;
+    private final Counter misses;
+
+    public PostContentStore(MeterRegistry meterRegistry,
+                            @Value("${app.post-content.off-heap.enabled:true}") boolean enabled,
+                            @Value("${app.post-content.off-heap.max-bytes:67108864}") long maxBytes,
+                            @Value("${app.post-content.off-heap.segment-bytes:4194304}") int segmentBytes) {
+        this.enabled = enabled;
+        this.store = new OffHeapTextStore(maxBytes, segmentBytes);
+        this.hits = Counter.builder("app.post-content.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("app.post-content.requests").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("app.post-content.off-heap.bytes", store, OffHeapTextStore::allocatedBytes)
+                .baseUnit("bytes").register(meterRegistry);
+        Gauge.builder("app.post-content.off-heap.used", store, OffHeapTextStore::usedBytes)
+                .baseUnit("bytes").register(meterRegistry);
+        Gauge.builder("app.post-content.entries", store, OffHeapTextStore::size).register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Contenidos presentes en la caché (los nulos incluidos); los IDs ausentes no aparecen en el resultado.
+     */
+    public Map<UUID, String> getAll(Collection<UUID> postIds) {
+        Map<UUID, String> found = new HashMap<>();
+        for (UUID postId : postIds) {
+            OffHeapTextStore.Hit hit = store.get(postId);
+            if (hit != null) {
+                found.put(postId, hit.text());
+            }
+        }
+        hits.increment(found.size());
+        misses.increment(postIds.size() - found.size());
+        return found;
+    }
+
+    public void put(UUID postId, String content) {
+        if (enabled) {
+            store.put(postId, content);
+        }
+    }
+
+    @Override
+    public String snapshotName() {
+        return "post-content";
+    }
+
+    @Override
+    public boolean isSnapshotEmpty() {
+        return !enabled || store.size() == 0;
+    }
+
+    @Override
+    public void writeSnapshot(SnapshotWriter out) throws IOException {
+        if (enabled) {
+            try {
+                store.forEach((postId, content) -> {
+                    try {
+                        out.putByte((byte) 1);
+                        out.putUuid(postId);
+                        out.putString(content);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+        out.putByte((byte) 0);
+    }
+
+    @Override
+    public int restoreSnapshot(SnapshotReader in, OffsetDateTime since) throws IOException {
+        int restored = 0;
+        while (in.getByte() != 0) {
+            UUID postId = in.getUuid();
+            String content = in.getString();
+            if (enabled && store.put(postId, content)) {
+                restored++;
+            }
+        }
+        return restored;
+    }
+}
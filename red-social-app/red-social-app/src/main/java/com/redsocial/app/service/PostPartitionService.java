@@ -0,0 +1,60 @@
+package com.redsocial.app.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+
+/**
+ * Mantiene las particiones mensuales de {@code posts} (PostgreSQL, ver db/posts_partitioning.sql),
+ * creando por adelantado las de los próximos meses.
+ */
+@Service
+public class PostPartitionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostPartitionService.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int monthsAhead;
+
+    public PostPartitionService(JdbcTemplate jdbcTemplate,
+                                @Value("${app.posts.partitioning.enabled:false}") boolean enabled,
+                                @Value("${app.posts.partitioning.months-ahead:3}") int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.posts.partitioning.cron:0 0 3 * * *}")
+    public void ensureUpcomingPartitions() {
+        if (!enabled) {
+            return;
+        }
+
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        for (int i = 0; i <= monthsAhead; i++) {
+            createPartition(current.plusMonths(i));
+        }
+    }
+
+    private void createPartition(YearMonth month) {
+        String name = String.format("posts_%d_%02d", month.getYear(), month.getMonthValue());
+        String sql = String.format(
+                "CREATE TABLE IF NOT EXISTS %s PARTITION OF posts FOR VALUES FROM ('%s-01 00:00:00+00') TO ('%s-01 00:00:00+00')",
+                name, month, month.plusMonths(1));
+        try {
+            jdbcTemplate.execute(sql);
+        } catch (Exception e) {
+            logger.error("No se pudo crear la partición {}: {}", name, e.getMessage());
+        }
+    }
+}
@@ -1,21 +1,40 @@
 package com.redsocial.app.service;
 
+import com.redsocial.app.dto.BatchResponse;
 import com.redsocial.app.dto.CreatePostRequest;
+import com.redsocial.app.dto.CursorPage;
 import com.redsocial.app.dto.PostResponse;
+import com.redsocial.app.events.DomainEvent;
 import com.redsocial.app.exception.PostException;
 import com.redsocial.app.exception.ValidationException;
 import com.redsocial.app.model.Post;
 import com.redsocial.app.model.User;
+import com.redsocial.app.monitoring.RequestTiming;
+import com.redsocial.app.repository.PostContent;
 import com.redsocial.app.repository.PostRepository;
+import com.redsocial.app.repository.PostSummary;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Service
 public class PostService {
@@ -25,12 +44,52 @@ public class PostService {
     private static final int MAX_MEDIA_URL_LENGTH = 500;
 
     private final PostRepository postRepository;
+    private final PostArchivalService postArchivalService;
+    private final TrendingService trendingService;
+    private final ViewTrackingService viewTrackingService;
+    private final FollowFeedService followFeedService;
+    private final OutboxService outboxService;
+    private final TagService tagService;
+    private final ModerationService moderationService;
+    private final DuplicateDetectionService duplicateDetectionService;
+    private final ViewerStateService viewerStateService;
+    private final ExclusionIndex exclusionIndex;
+    private final PublicFeedCache publicFeedCache;
+    private final PostContentStore postContentStore;
+    private final double overFetchRatio;
+    private final int maxFetchRounds;
+    private final int maxBatchIds;
 
-    public PostService(PostRepository postRepository) {
+    public PostService(PostRepository postRepository, PostArchivalService postArchivalService,
+                       TrendingService trendingService, ViewTrackingService viewTrackingService,
+                       FollowFeedService followFeedService, OutboxService outboxService,
+                       TagService tagService, ModerationService moderationService,
+                       DuplicateDetectionService duplicateDetectionService,
+                       ViewerStateService viewerStateService, ExclusionIndex exclusionIndex,
+                       PublicFeedCache publicFeedCache, PostContentStore postContentStore,
+                       @Value("${app.exclusions.over-fetch-ratio:0.5}") double overFetchRatio,
+                       @Value("${app.exclusions.max-fetch-rounds:2}") int maxFetchRounds,
+                       @Value("${app.batch.max-ids:200}") int maxBatchIds) {
         this.postRepository = postRepository;
+        this.postArchivalService = postArchivalService;
+        this.trendingService = trendingService;
+        this.viewTrackingService = viewTrackingService;
+        this.followFeedService = followFeedService;
+        this.outboxService = outboxService;
+        this.tagService = tagService;
+        this.moderationService = moderationService;
+        this.duplicateDetectionService = duplicateDetectionService;
+        this.viewerStateService = viewerStateService;
+        this.exclusionIndex = exclusionIndex;
+        this.publicFeedCache = publicFeedCache;
+        this.postContentStore = postContentStore;
+        this.overFetchRatio = overFetchRatio;
+        this.maxFetchRounds = maxFetchRounds;
+        this.maxBatchIds = maxBatchIds;
     }
 
     @Transactional
+    @Timed(value = "app.posts.create", histogram = true)
     public PostResponse create(User user, CreatePostRequest request) {
         logger.debug("Creando post para usuario: {}", user.getId());
         
@@ -38,6 +97,10 @@ public class PostService {
             // Validaciones
             validateCreatePostRequest(request);
             validateUser(user);
+
+            long start = RequestTiming.start();
+            moderationService.check(request.getContent(), request.getMediaUrl());
+            RequestTiming.stop("moderation", start);
             
             Post post = new Post();
             post.setUser(user);
@@ -46,7 +109,35 @@ public class PostService {
             post.setLikesCount(0);
             post.setCommentsCount(0);
             
-            Post saved = postRepository.save(post);
+            start = RequestTiming.start();
+            Post saved = postRepository.saveAndFlush(post);
+            RequestTiming.stop("persist", start);
+
+            // Tras guardar para tener el ID; un duplicado rechazado deshace la transacción
+            start = RequestTiming.start();
+            duplicateDetectionService.check(saved.getId(), user.getId(), saved.getContent());
+            RequestTiming.stop("duplicates", start);
+
+            start = RequestTiming.start();
+            ContentTokenizer.Tokens tokens = ContentTokenizer.tokenize(saved.getContent());
+            if (!tokens.isEmpty()) {
+                tagService.index(saved.getId(), saved.getCreatedAt(), tokens);
+            }
+            // Tendencias, feed de seguidos y demás consumidores reaccionan al evento fuera de esta transacción
+            outboxService.append(DomainEvent.POST, saved.getId(), DomainEvent.POST_CREATED, Map.of(
+                    "authorId", user.getId(),
+                    "createdAt", saved.getCreatedAt().toString(),
+                    "hashtags", tokens.hashtags()));
+            RequestTiming.stop("indexing", start);
+            // El feed público cacheado ya no incluye el post: se descarta cuando el post es visible;
+            // el contenido se guarda ya en la caché fuera del heap, donde lo leerán los feeds
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publicFeedCache.invalidate();
+                    postContentStore.put(saved.getId(), saved.getContent());
+                }
+            });
             logger.info("Post creado exitosamente con ID: {}", saved.getId());
             
             return toResponse(saved);
@@ -61,19 +152,296 @@ public class PostService {
     }
 
     @Transactional(readOnly = true)
+    @Timed(value = "app.posts.list", extraTags = {"scope", "all"}, histogram = true)
     public Page<PostResponse> listAll(Pageable pageable) {
         logger.debug("Listando todos los posts con paginación: {}", pageable);
     
-        Page<Post> page = postRepository.findAllWithUserProfile(pageable);
-        return page.map(this::toResponse);
+        // Con archivado activo la tabla caliente solo contiene el horizonte reciente:
+        // acotar por created_at permite descartar particiones antiguas
+        long start = RequestTiming.start();
+        Page<Post> page = postArchivalService.isEnabled()
+                ? postRepository.findAllWithUserProfileSince(postArchivalService.hotCutoff(), pageable)
+                : postRepository.findAllWithUserProfile(pageable);
+        RequestTiming.stop("feed", start);
+        // Paginación por desplazamiento: los posts ocultos se quitan de la página sin completarla,
+        // porque traer más desplazaría los límites de las páginas siguientes
+        UUID viewerId = currentViewerId();
+        if (viewerId != null && exclusionIndex.hasExclusions(viewerId)) {
+            page = new PageImpl<>(withoutExcluded(viewerId, page.getContent(), post -> post.getUser().getId()),
+                    pageable, page.getTotalElements());
+        }
+        recordViews(page);
+        return mapPage(page);
     }
     
     @Transactional(readOnly = true)
+    @Timed(value = "app.posts.list", extraTags = {"scope", "user"}, histogram = true)
     public Page<PostResponse> listByUser(UUID userId, Pageable pageable) {
         logger.debug("Listando posts para usuario: {} con paginación: {}", userId, pageable);
     
+        long start = RequestTiming.start();
         Page<Post> page = postRepository.findByUserIdWithUserProfile(userId, pageable);
-        return page.map(this::toResponse);
+        if (postArchivalService.isEnabled()) {
+            page = appendArchived(userId, page, pageable);
+        }
+        RequestTiming.stop("feed", start);
+        recordViews(page);
+        return mapPage(page);
+    }
+
+    /**
+     * Posts en tendencia servidos desde el ranking en memoria, en orden de puntuación.
+     */
+    @Transactional(readOnly = true)
+    @Timed(value = "app.posts.list", extraTags = {"scope", "trending"}, histogram = true)
+    public List<PostResponse> listTrending(int limit) {
+        UUID viewerId = currentViewerId();
+        if (viewerId == null || !exclusionIndex.hasExclusions(viewerId)) {
+            return loadInOrder(trendingService.topPostIds(limit));
+        }
+        List<PostResponse> posts = loadInOrder(trendingService.topPostIds(overFetch(limit)));
+        return truncate(withoutExcluded(viewerId, posts, PostResponse::getUserId), limit);
+    }
+
+    /**
+     * Feed de los autores que sigue el usuario, del más reciente al más antiguo, paginado por cursor
+     * (fecha e ID del último post devuelto, como en los hashtags).
+     */
+    @Transactional(readOnly = true)
+    @Timed(value = "app.posts.list", extraTags = {"scope", "following"}, histogram = true)
+    public CursorPage<PostResponse> listFollowing(UUID userId, String cursor, int size) {
+        validateUserId(userId);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        boolean filter = exclusionIndex.hasExclusions(userId);
+        int fetchSize = filter ? overFetch(size) : size;
+        List<PostResponse> posts = new ArrayList<>(size);
+        String nextCursor = null;
+        for (int round = 0; round < maxFetchRounds; round++) {
+            long start = RequestTiming.start();
+            CursorPage<UUID> ids = followFeedService.feedPostIds(userId, after, fetchSize);
+            RequestTiming.stop("merge", start);
+            List<PostResponse> loaded = loadInOrder(ids.getItems());
+            posts.addAll(filter ? withoutExcluded(userId, loaded, PostResponse::getUserId) : loaded);
+            nextCursor = ids.getNextCursor();
+            if (!filter || posts.size() >= size || nextCursor == null) {
+                break;
+            }
+            after = KeysetCursor.decode(nextCursor);
+        }
+        if (posts.size() > size) {
+            // Sobran posts: la página siguiente continúa tras el último que se devuelve
+            posts = truncate(posts, size);
+            PostResponse last = posts.get(size - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        viewTrackingService.record(posts.stream().map(PostResponse::getId).toList());
+        return new CursorPage<>(posts, nextCursor);
+    }
+
+    /**
+     * Posts con el hashtag indicado, del más reciente al más antiguo, paginados por cursor.
+     */
+    @Transactional(readOnly = true)
+    @Timed(value = "app.posts.list", extraTags = {"scope", "tag"}, histogram = true)
+    public CursorPage<PostResponse> listByTag(String tag, String cursor, int size) {
+        String normalized = ContentTokenizer.normalizeHashtag(tag);
+        if (normalized == null) {
+            throw new ValidationException("Hashtag no válido");
+        }
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        UUID viewerId = currentViewerId();
+        if (viewerId == null || !exclusionIndex.hasExclusions(viewerId)) {
+            long start = RequestTiming.start();
+            CursorPage<UUID> ids = tagService.postIds(normalized, after, size);
+            RequestTiming.stop("tags", start);
+            return new CursorPage<>(loadInOrder(ids.getItems()), ids.getNextCursor());
+        }
+
+        List<PostResponse> posts = new ArrayList<>(size);
+        String nextCursor = null;
+        for (int round = 0; round < maxFetchRounds; round++) {
+            long start = RequestTiming.start();
+            CursorPage<UUID> ids = tagService.postIds(normalized, after, overFetch(size));
+            RequestTiming.stop("tags", start);
+            posts.addAll(withoutExcluded(viewerId, loadInOrder(ids.getItems()), PostResponse::getUserId));
+            nextCursor = ids.getNextCursor();
+            if (posts.size() >= size || nextCursor == null) {
+                break;
+            }
+            after = KeysetCursor.decode(nextCursor);
+        }
+        if (posts.size() > size) {
+            // Sobran posts: la página siguiente continúa tras el último que se devuelve
+            posts = truncate(posts, size);
+            PostResponse last = posts.get(size - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(posts, nextCursor);
+    }
+
+    /**
+     * Posts de los IDs indicados con una sola consulta, en el orden pedido; los inexistentes van en {@code missing}.
+     */
+    @Transactional(readOnly = true)
+    @Timed(value = "app.posts.list", extraTags = {"scope", "batch"}, histogram = true)
+    public BatchResponse<PostResponse> getByIds(List<UUID> ids) {
+        List<UUID> distinct = BatchIds.distinct(ids, maxBatchIds);
+        Map<UUID, PostResponse> found = new HashMap<>();
+        for (PostResponse post : loadInOrder(distinct)) {
+            found.put(post.getId(), post);
+        }
+        return BatchIds.inOrder(distinct, found);
+    }
+
+    /**
+     * Tamaño de lectura ampliado para compensar los posts que el filtro de silenciados y bloqueos descartará.
+     */
+    private int overFetch(int size) {
+        return size + (int) Math.ceil(size * overFetchRatio);
+    }
+
+    private <T> List<T> withoutExcluded(UUID viewerId, List<T> items, Function<T, UUID> author) {
+        if (items.isEmpty()) {
+            return items;
+        }
+        long start = RequestTiming.start();
+        boolean[] hidden = exclusionIndex.hidden(viewerId, items.stream().map(author).toList());
+        List<T> visible = new ArrayList<>(items.size());
+        for (int i = 0; i < hidden.length; i++) {
+            if (!hidden[i]) {
+                visible.add(items.get(i));
+            }
+        }
+        RequestTiming.stop("exclusions", start);
+        return visible;
+    }
+
+    private static <T> List<T> truncate(List<T> items, int size) {
+        return items.size() > size ? new ArrayList<>(items.subList(0, size)) : items;
+    }
+
+    /**
+     * Carga los posts indicados con una sola consulta y los devuelve en el mismo orden.
+     * Los posts que ya no existen (borrados o archivados) se omiten.
+     */
+    private List<PostResponse> loadInOrder(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        if (postContentStore.isEnabled()) {
+            return loadInOrderWithContentStore(ids);
+        }
+
+        long start = RequestTiming.start();
+        Map<UUID, Post> byId = new HashMap<>();
+        for (Post post : postRepository.findAllWithUserProfileByIdIn(ids)) {
+            byId.put(post.getId(), post);
+        }
+        RequestTiming.stop("feed", start);
+
+        start = RequestTiming.start();
+        List<PostResponse> result = ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(this::toResponse)
+                .toList();
+        RequestTiming.stop("mapping", start);
+        hydrateViewerState(result);
+        return result;
+    }
+
+    /**
+     * Como {@link #loadInOrder} pero sin leer el contenido de la base de datos salvo para los posts
+     * que no están en la caché fuera del heap.
+     */
+    private List<PostResponse> loadInOrderWithContentStore(List<UUID> ids) {
+        long start = RequestTiming.start();
+        Map<UUID, PostSummary> byId = new HashMap<>();
+        for (PostSummary summary : postRepository.findSummariesByIdIn(ids)) {
+            byId.put(summary.getId(), summary);
+        }
+        RequestTiming.stop("feed", start);
+
+        start = RequestTiming.start();
+        Map<UUID, String> contents = postContentStore.getAll(byId.keySet());
+        if (contents.size() < byId.size()) {
+            List<UUID> missing = byId.keySet().stream().filter(id -> !contents.containsKey(id)).toList();
+            for (PostContent content : postRepository.findContentsByIdIn(missing)) {
+                contents.put(content.getId(), content.getContent());
+                postContentStore.put(content.getId(), content.getContent());
+            }
+        }
+        RequestTiming.stop("content", start);
+
+        start = RequestTiming.start();
+        List<PostResponse> result = ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(summary -> toResponse(summary, contents.get(summary.getId())))
+                .toList();
+        RequestTiming.stop("mapping", start);
+        hydrateViewerState(result);
+        return result;
+    }
+
+    private void recordViews(Page<Post> page) {
+        List<UUID> postIds = page.getContent().stream().map(Post::getId).toList();
+        for (UUID postId : postIds) {
+            trendingService.record(postId, TrendingService.Engagement.VIEW);
+        }
+        viewTrackingService.record(postIds);
+    }
+
+    /**
+     * Completa la página con posts del almacén frío cuando se ha llegado al final de los posts calientes.
+     */
+    private Page<Post> appendArchived(UUID userId, Page<Post> hotPage, Pageable pageable) {
+        long archivedTotal = postRepository.countArchivedByUserId(userId);
+        if (archivedTotal == 0) {
+            return hotPage;
+        }
+
+        long hotTotal = hotPage.getTotalElements();
+        List<Post> content = new ArrayList<>(hotPage.getContent());
+        int missing = pageable.getPageSize() - content.size();
+        if (missing > 0) {
+            long archivedOffset = Math.max(0, pageable.getOffset() - hotTotal);
+            content.addAll(postRepository.findArchivedByUserId(userId, archivedOffset, missing));
+        }
+        return new PageImpl<>(content, pageable, hotTotal + archivedTotal);
+    }
+
+    private Page<PostResponse> mapPage(Page<Post> page) {
+        long start = RequestTiming.start();
+        Page<PostResponse> mapped = page.map(this::toResponse);
+        RequestTiming.stop("mapping", start);
+        hydrateViewerState(mapped.getContent());
+        return mapped;
+    }
+
+    /**
+     * Rellena {@code likedByMe} para el usuario autenticado; en peticiones anónimas queda nulo.
+     */
+    private void hydrateViewerState(List<PostResponse> posts) {
+        UUID viewerId = currentViewerId();
+        if (posts.isEmpty() || viewerId == null) {
+            return;
+        }
+        long start = RequestTiming.start();
+        boolean[] liked = viewerStateService.likedByMe(viewerId, posts.stream().map(PostResponse::getId).toList());
+        for (int i = 0; i < liked.length; i++) {
+            posts.get(i).setLikedByMe(liked[i]);
+        }
+        RequestTiming.stop("viewer-state", start);
+    }
+
+    /**
+     * ID del usuario autenticado, o {@code null} en peticiones anónimas.
+     */
+    private static UUID currentViewerId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && auth.getPrincipal() instanceof User viewer ? viewer.getId() : null;
     }
 
     private PostResponse toResponse(Post post) {
@@ -92,6 +460,21 @@ public class PostService {
         }
         return resp;
     }
+
+    private PostResponse toResponse(PostSummary summary, String content) {
+        PostResponse resp = new PostResponse();
+        resp.setId(summary.getId());
+        resp.setUserId(summary.getUserId());
+        resp.setContent(content);
+        resp.setMediaUrl(summary.getMediaUrl());
+        resp.setLikesCount(summary.getLikesCount());
+        resp.setCommentsCount(summary.getCommentsCount());
+        resp.setCreatedAt(summary.getCreatedAt());
+        resp.setUpdatedAt(summary.getUpdatedAt());
+        resp.setAlias(summary.getAlias());
+        return resp;
+    }
+
     /**
      * Valida el request de creación de post.
      */
@@ -0,0 +1,97 @@
+package com.redsocial.app.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Respuestas ya serializadas (JSON y JSON comprimido con gzip) de las primeras páginas del feed público,
+ * idénticas para todos los lectores anónimos. Se vacía al confirmarse un post nuevo; los contadores de
+ * likes y comentarios pueden quedar atrasados como mucho {@code app.feed-cache.ttl-seconds}.
+ */
+@Service
+public class PublicFeedCache {
+
+    public record Key(int page, int size) {
+    }
+
+    public record Entry(byte[] body, byte[] gzipBody, List<UUID> postIds) {
+    }
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final boolean enabled;
+    private final int pages;
+    private final long ttlSeconds;
+    private final Cache<Key, Entry> entries;
+    // Cada invalidación abre una generación nueva: no se guarda lo leído antes de ella
+    private final AtomicLong generation = new AtomicLong();
+
+    public PublicFeedCache(@Value("${app.feed-cache.enabled:true}") boolean enabled,
+                           @Value("${app.feed-cache.pages:3}") int pages,
+                           @Value("${app.feed-cache.ttl-seconds:5}") long ttlSeconds,
+                           @Value("${app.feed-cache.max-entries:64}") long maxEntries) {
+        this.enabled = enabled;
+        this.pages = pages;
+        this.ttlSeconds = ttlSeconds;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public boolean isCacheable(int page, int size) {
+        return enabled && page >= 0 && page < pages && size >= 1 && size <= MAX_PAGE_SIZE;
+    }
+
+    public Entry get(Key key) {
+        return entries.getIfPresent(key);
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Guarda la respuesta de una página si no ha habido invalidaciones desde {@code readGeneration}.
+     */
+    public void put(Key key, long readGeneration, byte[] body, List<UUID> postIds) {
+        if (generation.get() != readGeneration) {
+            return;
+        }
+        entries.put(key, new Entry(body, gzip(body), List.copyOf(postIds)));
+        // Una invalidación concurrente con el put no debe dejar viva la página antigua
+        if (generation.get() != readGeneration) {
+            entries.invalidate(key);
+        }
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        entries.invalidateAll();
+    }
+
+    public long ttlSeconds() {
+        return ttlSeconds;
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,161 @@
+package com.redsocial.app.service;
+
+import com.redsocial.app.repository.PostRepository;
+import com.redsocial.app.repository.PostStamp;
+import com.redsocial.app.snapshot.SnapshotFile;
+import com.redsocial.app.snapshot.Snapshottable;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Instantáneas en disco de las estructuras en memoria ({@link Snapshottable}) para arrancar en caliente:
+ * se escriben periódicamente y al parar, y al arrancar se restauran y se ponen al día con los posts creados
+ * desde la marca de agua (el post más reciente al escribirlas) menos un margen de solapamiento para los
+ * commits que llegaron tarde. Una instantánea demasiado antigua, corrupta o de otra base de datos se descarta
+ * y la estructura arranca en frío, como sin instantánea. Solo se escriben instantáneas después de haber
+ * intentado restaurarlas (aplicación arrancada) y nunca de una estructura vacía: un arranque fallido o una
+ * ejecución de entrenamiento de CDS ({@code -Dspring.context.exit=onRefresh}) no pisa las buenas.
+ */
+@Service
+public class SnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotService.class);
+    private static final String EXTENSION = ".snap";
+
+    private final List<Snapshottable> snapshottables;
+    private final PostRepository postRepository;
+    private final boolean enabled;
+    private final Path directory;
+    private final Duration maxAge;
+    private final Duration catchUpOverlap;
+    private volatile boolean ready;
+
+    public SnapshotService(List<Snapshottable> snapshottables, PostRepository postRepository,
+                           @Value("${app.snapshots.enabled:true}") boolean enabled,
+                           @Value("${app.snapshots.dir:snapshots}") String directory,
+                           @Value("${app.snapshots.max-age-hours:24}") long maxAgeHours,
+                           @Value("${app.snapshots.catch-up-overlap-seconds:60}") long catchUpOverlapSeconds) {
+        this.snapshottables = snapshottables;
+        this.postRepository = postRepository;
+        this.enabled = enabled;
+        this.directory = Path.of(directory);
+        this.maxAge = Duration.ofHours(maxAgeHours);
+        this.catchUpOverlap = Duration.ofSeconds(catchUpOverlapSeconds);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreSnapshots() {
+        if (!enabled) {
+            return;
+        }
+        for (Snapshottable snapshottable : snapshottables) {
+            try {
+                restore(snapshottable);
+            } catch (Exception e) {
+                logger.warn("No se pudo restaurar la instantánea {}: {}", snapshottable.snapshotName(), e.getMessage());
+            }
+        }
+        ready = true;
+    }
+
+    @Scheduled(fixedDelayString = "${app.snapshots.interval-ms:300000}",
+               initialDelayString = "${app.snapshots.interval-ms:300000}")
+    public synchronized void writeSnapshots() {
+        if (!enabled || !ready) {
+            return;
+        }
+        SnapshotFile.Watermark watermark;
+        try {
+            Files.createDirectories(directory);
+            // La marca de agua se toma antes de recorrer las estructuras: lo que entre mientras se escriben
+            // queda repetido en la puesta al día, que es idempotente
+            watermark = currentWatermark();
+        } catch (Exception e) {
+            logger.warn("No se pudieron escribir las instantáneas: {}", e.getMessage());
+            return;
+        }
+        for (Snapshottable snapshottable : snapshottables) {
+            if (snapshottable.isSnapshotEmpty()) {
+                logger.debug("Instantánea {} no escrita: la estructura está vacía", snapshottable.snapshotName());
+                continue;
+            }
+            try {
+                long start = System.nanoTime();
+                long bytes = SnapshotFile.write(path(snapshottable), watermark, System.currentTimeMillis(),
+                        snapshottable::writeSnapshot);
+                logger.debug("Instantánea {} escrita: {} bytes en {} ms", snapshottable.snapshotName(), bytes,
+                        (System.nanoTime() - start) / 1_000_000);
+            } catch (Exception e) {
+                logger.warn("No se pudo escribir la instantánea {}: {}", snapshottable.snapshotName(), e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void writeOnShutdown() {
+        if (enabled && !ready) {
+            logger.info("Instantáneas no escritas al parar: la aplicación no llegó a arrancar");
+            return;
+        }
+        writeSnapshots();
+    }
+
+    private void restore(Snapshottable snapshottable) throws IOException {
+        SnapshotFile.Loaded loaded = SnapshotFile.read(path(snapshottable));
+        if (loaded == null) {
+            return;
+        }
+        Instant writtenAt = Instant.ofEpochMilli(loaded.writtenAtMillis());
+        if (writtenAt.isBefore(Instant.now().minus(maxAge))) {
+            logger.info("Instantánea {} descartada por antigua ({})", snapshottable.snapshotName(), writtenAt);
+            return;
+        }
+        SnapshotFile.Watermark watermark = loaded.watermark();
+        Instant from = writtenAt;
+        if (watermark != null) {
+            // Si el post de la marca de agua ya no existe, la base de datos no es la misma que al escribirla
+            if (!postRepository.existsById(watermark.postId())) {
+                logger.info("Instantánea {} descartada: su marca de agua no está en la base de datos",
+                        snapshottable.snapshotName());
+                return;
+            }
+            from = Instant.EPOCH.plus(watermark.createdAtMicros(), ChronoUnit.MICROS);
+        }
+        OffsetDateTime since = OffsetDateTime.ofInstant(from.minus(catchUpOverlap), ZoneOffset.UTC);
+        long start = System.nanoTime();
+        int restored = snapshottable.restoreSnapshot(loaded.reader(), since);
+        logger.info("Instantánea {} restaurada: {} entradas en {} ms", snapshottable.snapshotName(), restored,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private SnapshotFile.Watermark currentWatermark() {
+        List<PostStamp> latest = postRepository.findLatestStamps(Limit.of(1));
+        if (latest.isEmpty()) {
+            return null;
+        }
+        OffsetDateTime createdAt = latest.get(0).getCreatedAt();
+        return new SnapshotFile.Watermark(latest.get(0).getId(),
+                createdAt.toEpochSecond() * 1_000_000 + createdAt.getNano() / 1_000);
+    }
+
+    private Path path(Snapshottable snapshottable) {
+        return directory.resolve(snapshottable.snapshotName() + EXTENSION);
+    }
+}
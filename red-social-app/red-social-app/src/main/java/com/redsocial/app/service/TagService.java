@@ -0,0 +1,203 @@
+package com.redsocial.app.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.redsocial.app.dto.CursorPage;
+import com.redsocial.app.events.DomainEvent;
+import com.redsocial.app.events.DomainEventListener;
+import com.redsocial.app.repository.PostStamp;
+import com.redsocial.app.repository.PostTagRepository;
+import com.redsocial.app.repository.UserProfileRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Índice invertido de hashtags y menciones. Al publicar se escriben {@code post_tags} y {@code post_mentions}
+ * en la transacción del post; para leer, los posts más recientes de cada hashtag se cachean en memoria
+ * (hasta {@code app.tags.timeline-size}) y se actualizan con el evento PostCreated; caducan
+ * {@code app.tags.timeline-ttl-seconds} después de cargarse para recoger los posts publicados en otras instancias.
+ * Las páginas que van más allá de lo cacheado se leen de {@code post_tags} con paginación por clave.
+ */
+@Service
+public class TagService implements DomainEventListener {
+
+    /**
+     * Posts de un hashtag en el orden de {@link KeysetCursor#compare}. {@code complete} indica que no hay más
+     * en la tabla.
+     */
+    private record Timeline(UUID[] ids, long[] times, boolean complete) {
+
+        /**
+         * Primera posición que va estrictamente después de ({@code time}, {@code id}).
+         */
+        int positionAfter(long time, UUID id) {
+            int low = 0;
+            int high = times.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (KeysetCursor.compare(times[mid], ids[mid], time, id) <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    private static final String INSERT_TAG_SQL = "insert into post_tags (tag, post_id, created_at) values (?, ?, ?)";
+    private static final String INSERT_MENTION_SQL = "insert into post_mentions (user_id, post_id, created_at) values (?, ?, ?)";
+
+    private final PostTagRepository postTagRepository;
+    private final UserProfileRepository userProfileRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<String, Timeline> timelines;
+    private final int timelineSize;
+
+    public TagService(PostTagRepository postTagRepository, UserProfileRepository userProfileRepository,
+                      JdbcTemplate jdbcTemplate,
+                      @Value("${app.tags.timeline-size:500}") int timelineSize,
+                      @Value("${app.tags.cached-tags:20000}") long cachedTags,
+                      @Value("${app.tags.timeline-ttl-seconds:30}") long timelineTtlSeconds) {
+        this.postTagRepository = postTagRepository;
+        this.userProfileRepository = userProfileRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.timelineSize = timelineSize;
+        // Caducidad desde la carga: las actualizaciones locales no alargan el plazo
+        this.timelines = Caffeine.newBuilder()
+                .maximumSize(cachedTags)
+                .expireAfter(Expiry.creating((String tag, Timeline timeline) -> Duration.ofSeconds(timelineTtlSeconds)))
+                .build();
+    }
+
+    /**
+     * Registra los hashtags y las menciones de un post recién creado.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void index(UUID postId, OffsetDateTime createdAt, ContentTokenizer.Tokens tokens) {
+        // Un único INSERT por lotes por tabla en lugar de una sentencia por hashtag o mención
+        if (!tokens.hashtags().isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_TAG_SQL, tokens.hashtags().stream()
+                    .map(tag -> new Object[]{tag, postId, createdAt})
+                    .toList());
+        }
+        if (!tokens.mentions().isEmpty()) {
+            List<UUID> userIds = userProfileRepository.findUserIdsByAliasIn(tokens.mentions());
+            if (!userIds.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_MENTION_SQL, userIds.stream()
+                        .map(userId -> new Object[]{userId, postId, createdAt})
+                        .toList());
+            }
+        }
+    }
+
+    /**
+     * IDs de los posts con el hashtag, del más reciente al más antiguo, posteriores al cursor.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<UUID> postIds(String tag, KeysetCursor after, int size) {
+        Timeline timeline = timelines.get(tag, this::loadTimeline);
+        int start = after == null ? 0 : timeline.positionAfter(toMicros(after.createdAt()), after.id());
+        int available = timeline.ids().length - start;
+
+        if (available > size || timeline.complete()) {
+            int end = start + Math.min(size, available);
+            List<UUID> ids = List.copyOf(Arrays.asList(timeline.ids()).subList(start, end));
+            String nextCursor = available > size
+                    ? new KeysetCursor(toTime(timeline.times()[end - 1]), timeline.ids()[end - 1]).encode()
+                    : null;
+            return new CursorPage<>(ids, nextCursor);
+        }
+
+        // Más allá de lo cacheado: se continúa en la tabla desde el cursor del cliente
+        Limit limit = Limit.of(size + 1);
+        List<PostStamp> stamps = after == null
+                ? postTagRepository.findRecent(tag, limit)
+                : postTagRepository.findBefore(tag, after.createdAt(), after.id(), limit);
+        boolean hasMore = stamps.size() > size;
+        List<PostStamp> page = hasMore ? stamps.subList(0, size) : stamps;
+        String nextCursor = null;
+        if (hasMore) {
+            PostStamp last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(page.stream().map(PostStamp::getId).toList(), nextCursor);
+    }
+
+    @Override
+    public boolean supports(String eventType) {
+        return DomainEvent.POST_CREATED.equals(eventType);
+    }
+
+    /**
+     * Añade el post a los hashtags cacheados, en su posición por fecha: los eventos pueden llegar desordenados
+     * (carriles distintos del bus, reentregas). Es idempotente: el outbox puede reentregar el evento.
+     */
+    @Override
+    public void onEvent(DomainEvent event) {
+        JsonNode hashtags = event.payload().get("hashtags");
+        if (hashtags == null || hashtags.isEmpty()) {
+            return;
+        }
+        UUID postId = event.aggregateId();
+        long time = toMicros(OffsetDateTime.parse(event.payload().get("createdAt").asText()));
+        for (JsonNode tag : hashtags) {
+            timelines.asMap().computeIfPresent(tag.asText(), (key, timeline) -> {
+                int position = timeline.positionAfter(time, postId);
+                // Tras el último post de una línea temporal incompleta faltan posts de la tabla: ahí no se añade
+                boolean beyondCache = position == timeline.ids().length && !timeline.complete();
+                if (position >= timelineSize || beyondCache || Arrays.asList(timeline.ids()).contains(postId)) {
+                    return timeline;
+                }
+                int length = Math.min(timeline.ids().length + 1, timelineSize);
+                UUID[] ids = new UUID[length];
+                long[] times = new long[length];
+                System.arraycopy(timeline.ids(), 0, ids, 0, position);
+                System.arraycopy(timeline.times(), 0, times, 0, position);
+                ids[position] = postId;
+                times[position] = time;
+                System.arraycopy(timeline.ids(), position, ids, position + 1, length - position - 1);
+                System.arraycopy(timeline.times(), position, times, position + 1, length - position - 1);
+                return new Timeline(ids, times, timeline.complete() && length > timeline.ids().length);
+            });
+        }
+    }
+
+    private Timeline loadTimeline(String tag) {
+        // Mismo orden que el de la tabla, pero sin depender de cómo desempata la base de datos
+        List<PostStamp> stamps = postTagRepository.findRecent(tag, Limit.of(timelineSize)).stream()
+                .sorted((a, b) -> KeysetCursor.compare(toMicros(a.getCreatedAt()), a.getId(),
+                        toMicros(b.getCreatedAt()), b.getId()))
+                .toList();
+        UUID[] ids = new UUID[stamps.size()];
+        long[] times = new long[stamps.size()];
+        for (int i = 0; i < stamps.size(); i++) {
+            ids[i] = stamps.get(i).getId();
+            times[i] = toMicros(stamps.get(i).getCreatedAt());
+        }
+        return new Timeline(ids, times, stamps.size() < timelineSize);
+    }
+
+    private static long toMicros(OffsetDateTime time) {
+        return time.toEpochSecond() * 1_000_000 + time.getNano() / 1_000;
+    }
+
+    private static OffsetDateTime toTime(long micros) {
+        return OffsetDateTime.ofInstant(Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                Math.floorMod(micros, 1_000_000) * 1_000L), ZoneOffset.UTC);
+    }
+}
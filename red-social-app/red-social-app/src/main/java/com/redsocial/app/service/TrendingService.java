@@ -0,0 +1,175 @@
+package com.redsocial.app.service;
+
+import com.redsocial.app.events.DomainEvent;
+import com.redsocial.app.events.DomainEventListener;
+import com.redsocial.app.model.TrendingSnapshot;
+import com.redsocial.app.repository.TrendingSnapshotRepository;
+import com.redsocial.app.sketch.DecayingCountMinSketch;
+import com.redsocial.app.sketch.Hashing;
+import com.redsocial.app.sketch.TopK;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Ranking de posts en tendencia. Los eventos de interacción se acumulan en un Count-Min Sketch con
+ * decaimiento temporal y los posts con mayor puntuación se mantienen en un top-K en memoria, que se
+ * vuelca periódicamente a {@code trending_snapshots} para sobrevivir a reinicios. Los eventos del outbox
+ * pueden llegar repetidos: se recuerdan los IDs de los últimos {@code app.trending.dedup-size} aplicados
+ * para no sumarlos dos veces.
+ */
+@Service
+public class TrendingService implements DomainEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrendingService.class);
+
+    public enum Engagement { VIEW, LIKE, CREATE }
+
+    private final TrendingSnapshotRepository snapshotRepository;
+    private final DecayingCountMinSketch sketch;
+    private final TopK<UUID> topK;
+    private final Set<Long> appliedEvents;
+    private final boolean enabled;
+    private final int viewWeight;
+    private final int likeWeight;
+    private final int createWeight;
+
+    public TrendingService(TrendingSnapshotRepository snapshotRepository,
+                           @Value("${app.trending.enabled:true}") boolean enabled,
+                           @Value("${app.trending.top-k:100}") int topK,
+                           @Value("${app.trending.sketch.depth:4}") int depth,
+                           @Value("${app.trending.sketch.width:4096}") int width,
+                           @Value("${app.trending.buckets:24}") int buckets,
+                           @Value("${app.trending.half-life-buckets:6}") double halfLifeBuckets,
+                           @Value("${app.trending.weights.view:1}") int viewWeight,
+                           @Value("${app.trending.weights.like:5}") int likeWeight,
+                           @Value("${app.trending.weights.create:3}") int createWeight,
+                           @Value("${app.trending.dedup-size:50000}") int dedupSize) {
+        this.snapshotRepository = snapshotRepository;
+        this.enabled = enabled;
+        this.sketch = new DecayingCountMinSketch(depth, width, buckets, halfLifeBuckets);
+        this.topK = new TopK<>(topK);
+        this.viewWeight = viewWeight;
+        this.likeWeight = likeWeight;
+        this.createWeight = createWeight;
+        // Orden de inserción: al llenarse se olvida el evento aplicado hace más tiempo
+        this.appliedEvents = Collections.synchronizedSet(Collections.newSetFromMap(new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+                return size() > dedupSize;
+            }
+        }));
+    }
+
+    public void record(UUID postId, Engagement engagement) {
+        if (!enabled || postId == null) {
+            return;
+        }
+        long hash = Hashing.hash(postId);
+        sketch.add(hash, weight(engagement));
+        topK.offer(postId, sketch.estimate(hash));
+    }
+
+    @Override
+    public boolean supports(String eventType) {
+        return DomainEvent.POST_CREATED.equals(eventType) || DomainEvent.POST_LIKED.equals(eventType);
+    }
+
+    @Override
+    public void onEvent(DomainEvent event) {
+        // No basta con comparar con el último ID: el barrido del relay entrega huecos con IDs menores
+        if (!appliedEvents.add(event.id())) {
+            return;
+        }
+        record(event.aggregateId(), DomainEvent.POST_LIKED.equals(event.type()) ? Engagement.LIKE : Engagement.CREATE);
+    }
+
+    /**
+     * IDs de los posts en tendencia, de mayor a menor puntuación.
+     */
+    public List<UUID> topPostIds(int limit) {
+        return topK.snapshot().stream()
+                .limit(limit)
+                .map(TopK.Entry::key)
+                .toList();
+    }
+
+    /**
+     * Cierra el cubo temporal actual: los eventos antiguos pierden peso y las puntuaciones del top-K se recalculan.
+     */
+    @Scheduled(fixedRateString = "${app.trending.bucket-duration-ms:3600000}",
+               initialDelayString = "${app.trending.bucket-duration-ms:3600000}")
+    public void rotate() {
+        if (!enabled) {
+            return;
+        }
+        sketch.rotate();
+        topK.rescore(postId -> sketch.estimate(Hashing.hash(postId)));
+    }
+
+    @Scheduled(fixedDelayString = "${app.trending.snapshot-interval-ms:300000}",
+               initialDelayString = "${app.trending.snapshot-interval-ms:300000}")
+    @Transactional
+    public void saveSnapshot() {
+        if (!enabled) {
+            return;
+        }
+        OffsetDateTime now = OffsetDateTime.now();
+        List<TrendingSnapshot> rows = topK.snapshot().stream()
+                .map(entry -> {
+                    TrendingSnapshot row = new TrendingSnapshot();
+                    row.setPostId(entry.key());
+                    row.setScore(entry.score());
+                    row.setCapturedAt(now);
+                    return row;
+                })
+                .toList();
+        snapshotRepository.deleteAllInBatch();
+        snapshotRepository.saveAll(rows);
+        logger.debug("Instantánea de tendencias guardada con {} posts", rows.size());
+    }
+
+    /**
+     * Recarga la última instantánea: cada puntuación se siembra en el cubo actual del sketch.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreSnapshot() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<TrendingSnapshot> rows = snapshotRepository.findAll();
+            for (TrendingSnapshot row : rows) {
+                long hash = Hashing.hash(row.getPostId());
+                sketch.add(hash, (int) Math.ceil(row.getScore()));
+                topK.offer(row.getPostId(), sketch.estimate(hash));
+            }
+            if (!rows.isEmpty()) {
+                logger.info("Ranking de tendencias restaurado con {} posts", rows.size());
+            }
+        } catch (Exception e) {
+            logger.warn("No se pudo restaurar el ranking de tendencias: {}", e.getMessage());
+        }
+    }
+
+    private int weight(Engagement engagement) {
+        return switch (engagement) {
+            case VIEW -> viewWeight;
+            case LIKE -> likeWeight;
+            case CREATE -> createWeight;
+        };
+    }
+}
@@ -1,29 +1,39 @@
 package com.redsocial.app.service;
 
+import com.redsocial.app.dto.BatchResponse;
 import com.redsocial.app.dto.UserProfileResponse;
 import com.redsocial.app.exception.ResourceNotFoundException;
 import com.redsocial.app.exception.UserProfileException;
 import com.redsocial.app.exception.ValidationException;
 import com.redsocial.app.model.UserProfile;
 import com.redsocial.app.repository.UserProfileRepository;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "app.user-profiles", histogram = true)
 public class UserProfileService {
 
     private static final Logger logger = LoggerFactory.getLogger(UserProfileService.class);
 
     private final UserProfileRepository repository;
+    private final int maxBatchIds;
 
-    public UserProfileService(UserProfileRepository repository) {
+    public UserProfileService(UserProfileRepository repository,
+                              @Value("${app.batch.max-ids:200}") int maxBatchIds) {
         this.repository = repository;
+        this.maxBatchIds = maxBatchIds;
     }
 
     @Transactional(readOnly = true)
@@ -88,6 +98,43 @@ public class UserProfileService {
         }
     }
 
+    /**
+     * Perfil del usuario, si lo tiene; a diferencia de {@link #getByUserId} la ausencia no es un error.
+     */
+    @Transactional(readOnly = true)
+    public Optional<UserProfileResponse> findByUserId(UUID userId) {
+        validateUserId(userId);
+        return repository.findByUser_Id(userId).map(this::convertToDto);
+    }
+
+    /**
+     * Perfiles de los IDs indicados con una sola consulta, en el orden pedido; los inexistentes van en {@code missing}.
+     */
+    @Transactional(readOnly = true)
+    public BatchResponse<UserProfileResponse> getByIds(List<UUID> ids) {
+        List<UUID> distinct = BatchIds.distinct(ids, maxBatchIds);
+        Map<UUID, UserProfileResponse> found = new HashMap<>();
+        for (UserProfile profile : repository.findAllWithUserByIdIn(distinct)) {
+            found.put(profile.getId(), convertToDto(profile));
+        }
+        logger.debug("Lote de perfiles: {} pedidos, {} encontrados", distinct.size(), found.size());
+        return BatchIds.inOrder(distinct, found);
+    }
+
+    /**
+     * Perfiles de los usuarios indicados con una sola consulta, en el orden pedido; los inexistentes van en {@code missing}.
+     */
+    @Transactional(readOnly = true)
+    public BatchResponse<UserProfileResponse> getByUserIds(List<UUID> userIds) {
+        List<UUID> distinct = BatchIds.distinct(userIds, maxBatchIds);
+        Map<UUID, UserProfileResponse> found = new HashMap<>();
+        for (UserProfile profile : repository.findAllWithUserByUserIdIn(distinct)) {
+            found.put(profile.getUser().getId(), convertToDto(profile));
+        }
+        logger.debug("Lote de perfiles por usuario: {} pedidos, {} encontrados", distinct.size(), found.size());
+        return BatchIds.inOrder(distinct, found);
+    }
+
     private UserProfileResponse convertToDto(UserProfile profile) {
         try {
             if (profile == null) {
@@ -0,0 +1,185 @@
+package com.redsocial.app.service;
+
+import com.redsocial.app.model.PostViewSketch;
+import com.redsocial.app.repository.PostViewSketchRepository;
+import com.redsocial.app.sketch.Hashing;
+import com.redsocial.app.sketch.HyperLogLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Espectadores únicos por post. Las lecturas del feed encolan eventos (post, espectador) en un buffer
+ * sin bloqueos y acotado; un volcado periódico los agrupa por post y los combina en el HyperLogLog
+ * persistido de cada uno. Solo cuentan los usuarios autenticados y el recuento es aproximado
+ * (los eventos aún no volcados no se reflejan).
+ * <p>
+ * Varios nodos vuelcan sobre las mismas filas: las que faltan se crean vacías con {@code on conflict do nothing}
+ * y después se bloquean ({@code select ... for update}) antes de combinarlas, así que ningún volcado pisa los
+ * registros de otro. Si el volcado falla, los eventos vuelven al buffer para el siguiente intento.
+ */
+@Service
+public class ViewTrackingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ViewTrackingService.class);
+
+    private static final String INSERT_EMPTY_SQL =
+            "insert into post_view_sketches (post_id, registers, updated_at) values (?, ?, ?) on conflict do nothing";
+
+    private record ViewEvent(UUID postId, long viewerHash) {
+    }
+
+    private final PostViewSketchRepository sketchRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ConcurrentLinkedQueue<ViewEvent> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Counter dropped;
+    private final boolean enabled;
+    private final int precision;
+    private final int bufferCapacity;
+    private final int batchSize;
+
+    public ViewTrackingService(PostViewSketchRepository sketchRepository,
+                               JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.views.enabled:true}") boolean enabled,
+                               @Value("${app.views.precision:11}") int precision,
+                               @Value("${app.views.buffer-capacity:100000}") int bufferCapacity,
+                               @Value("${app.views.batch-size:10000}") int batchSize) {
+        this.sketchRepository = sketchRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.precision = precision;
+        this.bufferCapacity = bufferCapacity;
+        this.batchSize = batchSize;
+        this.dropped = Counter.builder("app.views.dropped")
+                .description("Eventos de vista descartados con el buffer lleno")
+                .register(meterRegistry);
+        meterRegistry.gauge("app.views.pending", pending);
+    }
+
+    /**
+     * Registra que el usuario autenticado actual ha visto los posts indicados.
+     */
+    public void record(List<UUID> postIds) {
+        if (!enabled || postIds.isEmpty()) {
+            return;
+        }
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) {
+            return;
+        }
+        long viewerHash = Hashing.hash(auth.getName().toLowerCase());
+        for (UUID postId : postIds) {
+            if (pending.incrementAndGet() > bufferCapacity) {
+                pending.decrementAndGet();
+                dropped.increment();
+                continue;
+            }
+            buffer.offer(new ViewEvent(postId, viewerHash));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long uniqueViewers(UUID postId) {
+        return sketchRepository.findById(postId)
+                .map(row -> HyperLogLog.fromBytes(row.getRegisters()).estimate())
+                .orElse(0L);
+    }
+
+    @Scheduled(fixedDelayString = "${app.views.flush-interval-ms:2000}")
+    public void flush() {
+        flushBatch();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        while (!buffer.isEmpty()) {
+            if (!flushBatch()) {
+                logger.warn("No se pudieron volcar las vistas pendientes al parar");
+                return;
+            }
+        }
+    }
+
+    /**
+     * Vuelca un lote del buffer.
+     *
+     * @return {@code false} si el volcado falló y los eventos se devolvieron al buffer
+     */
+    private boolean flushBatch() {
+        Map<UUID, List<Long>> byPost = new HashMap<>();
+        ViewEvent event;
+        int drained = 0;
+        while (drained < batchSize && (event = buffer.poll()) != null) {
+            drained++;
+            byPost.computeIfAbsent(event.postId(), id -> new ArrayList<>()).add(event.viewerHash());
+        }
+        if (drained == 0) {
+            return true;
+        }
+        pending.addAndGet(-drained);
+
+        try {
+            Integer changed = transactionTemplate.execute(status -> merge(byPost));
+            logger.debug("Volcados {} eventos de vista en {} sketches", drained, changed);
+            return true;
+        } catch (RuntimeException e) {
+            byPost.forEach((postId, viewers) -> viewers.forEach(viewer -> buffer.offer(new ViewEvent(postId, viewer))));
+            pending.addAndGet(drained);
+            logger.warn("No se pudieron volcar {} eventos de vista, se reintentarán: {}", drained, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Combina los espectadores de cada post con su sketch persistido, con las filas bloqueadas.
+     *
+     * @return número de sketches modificados
+     */
+    private int merge(Map<UUID, List<Long>> byPost) {
+        List<UUID> postIds = byPost.keySet().stream().sorted().toList();
+        OffsetDateTime now = OffsetDateTime.now();
+        byte[] empty = new HyperLogLog(precision).toBytes();
+        jdbcTemplate.batchUpdate(INSERT_EMPTY_SQL, postIds.stream().map(id -> new Object[]{id, empty, now}).toList());
+
+        List<PostViewSketch> changed = new ArrayList<>();
+        for (PostViewSketch row : sketchRepository.findAllByIdForUpdate(postIds)) {
+            HyperLogLog hll = HyperLogLog.fromBytes(row.getRegisters());
+            boolean modified = false;
+            for (long viewer : byPost.get(row.getPostId())) {
+                modified |= hll.add(viewer);
+            }
+            if (modified) {
+                row.setRegisters(hll.toBytes());
+                row.setUpdatedAt(now);
+                changed.add(row);
+            }
+        }
+        sketchRepository.saveAll(changed);
+        return changed.size();
+    }
+}
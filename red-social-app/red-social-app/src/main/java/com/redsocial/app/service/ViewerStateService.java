@@ -0,0 +1,152 @@
+package com.redsocial.app.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.redsocial.app.repository.PostLikeRepository;
+import com.redsocial.app.sketch.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Estado de cada post respecto al usuario que lee el feed ("me gusta"). Los UUID de los posts con algún
+ * like se traducen a enteros densos y los likes de cada usuario se guardan como bitmap comprimido en una
+ * caché acotada por memoria; un usuario que no está en caché se reconstruye desde {@code post_likes}
+ * con una consulta. Así, hidratar una página del feed son unas pocas comprobaciones de bits. Los likes dados
+ * en otra instancia solo se ven al reconstruir el bitmap, que caduca {@code app.viewer-state.ttl-seconds}
+ * después de cargarse.
+ */
+@Service
+public class ViewerStateService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ViewerStateService.class);
+
+    /**
+     * Traducción UUID → entero denso. Solo crece; al superar su límite se sustituye por otra vacía
+     * y los bitmaps construidos con la anterior dejan de ser válidos.
+     */
+    private static final class PostDictionary {
+        private final Map<UUID, Integer> ids = new ConcurrentHashMap<>();
+        private final AtomicInteger next = new AtomicInteger();
+
+        int find(UUID postId) {
+            Integer id = ids.get(postId);
+            return id == null ? -1 : id;
+        }
+
+        int idOf(UUID postId) {
+            return ids.computeIfAbsent(postId, id -> next.getAndIncrement());
+        }
+
+        int size() {
+            return next.get();
+        }
+    }
+
+    private record LikedPosts(PostDictionary dictionary, RoaringBitmap bitmap) {
+    }
+
+    private final PostLikeRepository postLikeRepository;
+    private final Cache<UUID, LikedPosts> likes;
+    private final boolean enabled;
+    private final int maxDictionarySize;
+    private volatile PostDictionary dictionary = new PostDictionary();
+
+    public ViewerStateService(PostLikeRepository postLikeRepository,
+                              @Value("${app.viewer-state.enabled:true}") boolean enabled,
+                              @Value("${app.viewer-state.max-bytes:67108864}") long maxBytes,
+                              @Value("${app.viewer-state.max-posts:5000000}") int maxDictionarySize,
+                              @Value("${app.viewer-state.ttl-seconds:60}") long ttlSeconds) {
+        this.postLikeRepository = postLikeRepository;
+        this.enabled = enabled;
+        this.maxDictionarySize = maxDictionarySize;
+        this.likes = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((UUID userId, LikedPosts liked) -> liked.bitmap().sizeInBytes())
+                // Caducidad desde la carga: los likes locales (compute) no alargan el plazo
+                .expireAfter(Expiry.creating((UUID userId, LikedPosts liked) -> Duration.ofSeconds(ttlSeconds)))
+                .build();
+    }
+
+    /**
+     * Para cada post indicado, si le gusta a {@code userId}, en el mismo orden.
+     */
+    public boolean[] likedByMe(UUID userId, List<UUID> postIds) {
+        boolean[] liked = new boolean[postIds.size()];
+        if (!enabled || userId == null || postIds.isEmpty()) {
+            return liked;
+        }
+        LikedPosts state = current(userId);
+        for (int i = 0; i < liked.length; i++) {
+            int id = state.dictionary().find(postIds.get(i));
+            liked[i] = id >= 0 && state.bitmap().contains(id);
+        }
+        return liked;
+    }
+
+    public void onLiked(UUID userId, UUID postId) {
+        update(userId, postId, true);
+    }
+
+    public void onUnliked(UUID userId, UUID postId) {
+        update(userId, postId, false);
+    }
+
+    private void update(UUID userId, UUID postId, boolean liked) {
+        if (!enabled) {
+            return;
+        }
+        // Solo se actualiza el bitmap si está en caché; el compute hace que Caffeine recalcule su peso
+        likes.asMap().computeIfPresent(userId, (id, state) -> {
+            if (state.dictionary() != dictionary) {
+                return null;
+            }
+            if (liked) {
+                state.bitmap().add(state.dictionary().idOf(postId));
+            } else {
+                int dense = state.dictionary().find(postId);
+                if (dense >= 0) {
+                    state.bitmap().remove(dense);
+                }
+            }
+            return state;
+        });
+    }
+
+    private LikedPosts current(UUID userId) {
+        LikedPosts state = likes.get(userId, this::load);
+        if (state.dictionary() != dictionary) {
+            likes.invalidate(userId);
+            state = likes.get(userId, this::load);
+        }
+        return state;
+    }
+
+    private LikedPosts load(UUID userId) {
+        PostDictionary dict = dictionary;
+        if (dict.size() > maxDictionarySize) {
+            // Reinicio del diccionario: todos los bitmaps se reconstruyen bajo demanda con el nuevo
+            synchronized (this) {
+                if (dictionary == dict) {
+                    dictionary = new PostDictionary();
+                    logger.info("Diccionario de posts de likes reiniciado al superar {} entradas", maxDictionarySize);
+                }
+                dict = dictionary;
+            }
+        }
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (UUID postId : postLikeRepository.findPostIdsByUserId(userId)) {
+            bitmap.add(dict.idOf(postId));
+        }
+        return new LikedPosts(dict, bitmap);
+    }
+}
@@ -0,0 +1,88 @@
+package com.redsocial.app.sketch;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Count-Min Sketch repartido en cubos temporales (anillo). Las escrituras van al cubo actual sin bloqueos;
+ * la estimación suma los cubos ponderando cada uno por {@code 0.5^(edad / semivida)}, de modo que los
+ * eventos antiguos pierden peso y desaparecen al rotar el anillo completo.
+ */
+public class DecayingCountMinSketch {
+
+    private final int depth;
+    private final int widthMask;
+    private final AtomicIntegerArray[] buckets;
+    private final double[] ageWeights;
+    private volatile int current;
+
+    /**
+     * @param depth      filas (funciones hash); el error se cumple con probabilidad {@code 1 - 2^-depth}
+     * @param width      columnas por fila, se redondea a potencia de 2
+     * @param bucketCount cubos temporales del anillo
+     * @param halfLifeBuckets semivida del decaimiento, en cubos
+     */
+    public DecayingCountMinSketch(int depth, int width, int bucketCount, double halfLifeBuckets) {
+        if (depth < 1 || width < 1 || bucketCount < 1 || halfLifeBuckets <= 0) {
+            throw new IllegalArgumentException("Parámetros de sketch no válidos");
+        }
+        int roundedWidth = Integer.highestOneBit(width) == width ? width : Integer.highestOneBit(width) << 1;
+        this.depth = depth;
+        this.widthMask = roundedWidth - 1;
+        this.buckets = new AtomicIntegerArray[bucketCount];
+        this.ageWeights = new double[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new AtomicIntegerArray(depth * roundedWidth);
+            ageWeights[i] = Math.pow(0.5, i / halfLifeBuckets);
+        }
+    }
+
+    public void add(long hash, int count) {
+        AtomicIntegerArray bucket = buckets[current];
+        long hash2 = secondHash(hash);
+        int width = widthMask + 1;
+        for (int row = 0; row < depth; row++) {
+            bucket.addAndGet(row * width + index(hash, hash2, row), count);
+        }
+    }
+
+    /**
+     * Frecuencia ponderada por antigüedad; nunca subestima la real (salvo por el decaimiento).
+     */
+    public double estimate(long hash) {
+        int now = current;
+        long hash2 = secondHash(hash);
+        int width = widthMask + 1;
+        double total = 0;
+        for (int age = 0; age < buckets.length; age++) {
+            AtomicIntegerArray bucket = buckets[Math.floorMod(now - age, buckets.length)];
+            int min = Integer.MAX_VALUE;
+            for (int row = 0; row < depth && min > 0; row++) {
+                min = Math.min(min, bucket.get(row * width + index(hash, hash2, row)));
+            }
+            total += min * ageWeights[age];
+        }
+        return total;
+    }
+
+    /**
+     * Avanza al siguiente cubo, descartando el más antiguo.
+     */
+    public synchronized void rotate() {
+        int next = (current + 1) % buckets.length;
+        AtomicIntegerArray bucket = buckets[next];
+        for (int i = 0; i < bucket.length(); i++) {
+            bucket.set(i, 0);
+        }
+        current = next;
+    }
+
+    private static long secondHash(long hash) {
+        return Hashing.mix(hash ^ 0x9e3779b97f4a7c15L);
+    }
+
+    private int index(long hash, long hash2, int row) {
+        // Doble hashing (Kirsch-Mitzenmacher): h1 + row * h2
+        long combined = hash + row * hash2;
+        return (int) (combined ^ (combined >>> 32)) & widthMask;
+    }
+}
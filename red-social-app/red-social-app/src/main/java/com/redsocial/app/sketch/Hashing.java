@@ -0,0 +1,37 @@
+package com.redsocial.app.sketch;
+
+import java.util.UUID;
+
+/**
+ * Hashes de 64 bits para las estructuras probabilísticas (finalizador de MurmurHash3).
+ */
+public final class Hashing {
+
+    private Hashing() {
+    }
+
+    public static long hash(UUID id) {
+        return mix(id.getMostSignificantBits() ^ mix(id.getLeastSignificantBits()));
+    }
+
+    /**
+     * FNV-1a de 64 bits sobre los caracteres, finalizado con {@link #mix(long)}.
+     */
+    public static long hash(CharSequence value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    public static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,127 @@
+package com.redsocial.app.sketch;
+
+import java.nio.ByteBuffer;
+
+/**
+ * HyperLogLog para contar elementos distintos con memoria fija ({@code 2^precision} registros).
+ * Error típico {@code 1.04 / sqrt(2^precision)}; por debajo de {@code 2.5·m} se usa conteo lineal.
+ * <p>
+ * Serialización compacta: con pocos registros ocupados se guardan solo los pares (índice, valor);
+ * si no, todos los registros empaquetados a 6 bits.
+ */
+public class HyperLogLog {
+
+    private static final byte SPARSE = 1;
+    private static final byte DENSE = 2;
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 16) {
+            throw new IllegalArgumentException("La precisión debe estar entre 4 y 16");
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    /**
+     * @return {@code true} si el registro cambió
+     */
+    public boolean add(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+        // Posición del primer 1 en los bits restantes (el centinela acota el valor máximo)
+        long rest = (hash << precision) | (1L << (precision - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(rest) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+            return true;
+        }
+        return false;
+    }
+
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("No se pueden combinar sketches de distinta precisión");
+        }
+        for (int i = 0; i < registers.length; i++) {
+            registers[i] = (byte) Math.max(registers[i], other.registers[i]);
+        }
+    }
+
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double alpha = 0.7213 / (1 + 1.079 / m);
+        double raw = alpha * m * m / sum;
+        if (raw <= 2.5 * m && zeros > 0) {
+            return Math.round(m * Math.log((double) m / zeros));
+        }
+        return Math.round(raw);
+    }
+
+    public byte[] toBytes() {
+        int used = 0;
+        for (byte register : registers) {
+            if (register != 0) {
+                used++;
+            }
+        }
+        int sparseSize = 2 + 4 + used * 3;
+        int denseSize = 2 + (registers.length * 6 + 7) / 8;
+        if (sparseSize < denseSize) {
+            ByteBuffer buffer = ByteBuffer.allocate(sparseSize).put(SPARSE).put((byte) precision).putInt(used);
+            for (int i = 0; i < registers.length; i++) {
+                if (registers[i] != 0) {
+                    buffer.putShort((short) i).put(registers[i]);
+                }
+            }
+            return buffer.array();
+        }
+
+        byte[] out = new byte[denseSize];
+        out[0] = DENSE;
+        out[1] = (byte) precision;
+        int bit = 16;
+        for (byte register : registers) {
+            for (int b = 5; b >= 0; b--, bit++) {
+                if ((register >> b & 1) != 0) {
+                    out[bit >> 3] |= (byte) (0x80 >>> (bit & 7));
+                }
+            }
+        }
+        return out;
+    }
+
+    public static HyperLogLog fromBytes(byte[] data) {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        byte format = buffer.get();
+        HyperLogLog hll = new HyperLogLog(buffer.get());
+        if (format == SPARSE) {
+            int used = buffer.getInt();
+            for (int i = 0; i < used; i++) {
+                int index = Short.toUnsignedInt(buffer.getShort());
+                hll.registers[index] = buffer.get();
+            }
+        } else if (format == DENSE) {
+            int bit = 16;
+            for (int i = 0; i < hll.registers.length; i++) {
+                int value = 0;
+                for (int b = 0; b < 6; b++, bit++) {
+                    value = value << 1 | (data[bit >> 3] >> (7 - (bit & 7)) & 1);
+                }
+                hll.registers[i] = (byte) value;
+            }
+        } else {
+            throw new IllegalArgumentException("Formato de HyperLogLog desconocido: " + format);
+        }
+        return hll;
+    }
+}
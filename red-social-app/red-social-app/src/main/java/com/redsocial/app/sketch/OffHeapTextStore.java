@@ -0,0 +1,308 @@
+package com.redsocial.app.sketch;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Textos por UUID fuera del heap: cada entrada se codifica en UTF-8 en segmentos de {@link ByteBuffer}
+ * directos usados en anillo (cabecera de 18 bytes: UUID y longitud). Al llenarse el anillo se recicla
+ * el segmento más antiguo entero; una lectura de una entrada en la mitad antigua del anillo la vuelve a
+ * escribir en el segmento actual, así que las entradas leídas sobreviven (aproximación a LRU por segmentos).
+ * El índice es una tabla de direccionamiento abierto en el heap (tres {@code long} por entrada) y los
+ * textos no se guardan como {@link String}, de modo que no cuentan para el GC. Los métodos están sincronizados.
+ */
+public class OffHeapTextStore {
+
+    /**
+     * Resultado de una lectura que encuentra la entrada; {@code text} puede ser nulo si se guardó nulo.
+     */
+    public record Hit(String text) {
+    }
+
+    private static final int HEADER_BYTES = 18;
+    private static final int NULL_LENGTH = 0xFFFF;
+    private static final int MAX_TEXT_BYTES = NULL_LENGTH - 1;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final long EMPTY = -1L;
+    // Marca interna de "texto nulo" en las lecturas
+    private static final byte[] NULL_TEXT = new byte[0];
+
+    private final int segmentBytes;
+    private final ByteBuffer[] segments;
+    private final int[] positions;
+    private int head;
+    private long usedBytes;
+
+    private long[] keysHigh = new long[INITIAL_CAPACITY];
+    private long[] keysLow = new long[INITIAL_CAPACITY];
+    // Segmento en los 32 bits altos y desplazamiento en los bajos; EMPTY marca un hueco libre
+    private long[] locations = newLocations(INITIAL_CAPACITY);
+    private int size;
+
+    public OffHeapTextStore(long maxBytes, int segmentBytes) {
+        if (segmentBytes <= HEADER_BYTES || maxBytes < segmentBytes) {
+            throw new IllegalArgumentException("Tamaños de segmento no válidos: " + maxBytes + "/" + segmentBytes);
+        }
+        this.segmentBytes = segmentBytes;
+        this.segments = new ByteBuffer[(int) Math.max(2, maxBytes / segmentBytes)];
+        this.positions = new int[segments.length];
+    }
+
+    /**
+     * Guarda el texto de {@code id} si no estaba ya (los textos no cambian); los nulos también se guardan.
+     * Devuelve {@code false} si el texto no cabe en un segmento.
+     */
+    public boolean put(UUID id, String text) {
+        byte[] bytes = text != null ? text.getBytes(StandardCharsets.UTF_8) : null;
+        if (bytes != null && (bytes.length > MAX_TEXT_BYTES || HEADER_BYTES + bytes.length > segmentBytes)) {
+            return false;
+        }
+        synchronized (this) {
+            if (slot(id.getMostSignificantBits(), id.getLeastSignificantBits()) >= 0) {
+                return true;
+            }
+            append(id.getMostSignificantBits(), id.getLeastSignificantBits(), bytes);
+            return true;
+        }
+    }
+
+    /**
+     * Entrada de {@code id}, o {@code null} si no está. La decodificación UTF-8 se hace fuera del bloqueo.
+     */
+    public Hit get(UUID id) {
+        byte[] bytes = read(id);
+        if (bytes == null) {
+            return null;
+        }
+        return new Hit(bytes == NULL_TEXT ? null : new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    public synchronized boolean contains(UUID id) {
+        return slot(id.getMostSignificantBits(), id.getLeastSignificantBits()) >= 0;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Bytes ocupados por entradas vivas o pendientes de reciclar.
+     */
+    public synchronized long usedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * Bytes reservados fuera del heap (los segmentos se reservan al usarse por primera vez).
+     */
+    public synchronized long allocatedBytes() {
+        long allocated = 0;
+        for (ByteBuffer segment : segments) {
+            if (segment != null) {
+                allocated += segment.capacity();
+            }
+        }
+        return allocated;
+    }
+
+    /**
+     * Recorre las entradas vivas de la más antigua a la más reciente, de modo que volver a insertarlas en ese
+     * orden conserva qué entradas se reciclan antes. Cada segmento se copia al heap con el bloqueo tomado y la
+     * copia se recorre sin él: una acción lenta (escribir la instantánea) no bloquea lecturas ni escrituras.
+     * Las entradas añadidas o recicladas durante el recorrido pueden aparecer o no.
+     */
+    public void forEach(BiConsumer<UUID, String> action) {
+        int start;
+        synchronized (this) {
+            start = head;
+        }
+        for (int step = 1; step <= segments.length; step++) {
+            byte[] entries = liveEntries((start + step) % segments.length);
+            ByteBuffer buffer = ByteBuffer.wrap(entries);
+            int offset = 0;
+            while (offset < entries.length) {
+                int length = buffer.getShort(offset + 16) & 0xFFFF;
+                String text = length == NULL_LENGTH ? null
+                        : new String(entries, offset + HEADER_BYTES, length, StandardCharsets.UTF_8);
+                action.accept(new UUID(buffer.getLong(offset), buffer.getLong(offset + 8)), text);
+                offset += HEADER_BYTES + (length == NULL_LENGTH ? 0 : length);
+            }
+        }
+    }
+
+    /**
+     * Copia de las entradas vivas de un segmento (cabecera y texto), consecutivas y en su orden.
+     */
+    private synchronized byte[] liveEntries(int segment) {
+        ByteBuffer buffer = segments[segment];
+        if (buffer == null) {
+            return new byte[0];
+        }
+        byte[] copy = new byte[positions[segment]];
+        int copied = 0;
+        int offset = 0;
+        while (offset < positions[segment]) {
+            long high = buffer.getLong(offset);
+            long low = buffer.getLong(offset + 8);
+            int length = buffer.getShort(offset + 16) & 0xFFFF;
+            int entryBytes = HEADER_BYTES + (length == NULL_LENGTH ? 0 : length);
+            int slot = slot(high, low);
+            if (slot >= 0 && locations[slot] == (((long) segment << 32) | offset)) {
+                buffer.get(offset, copy, copied, entryBytes);
+                copied += entryBytes;
+            }
+            offset += entryBytes;
+        }
+        return copied == copy.length ? copy : Arrays.copyOf(copy, copied);
+    }
+
+    private synchronized byte[] read(UUID id) {
+        long high = id.getMostSignificantBits();
+        long low = id.getLeastSignificantBits();
+        int slot = slot(high, low);
+        if (slot < 0) {
+            return null;
+        }
+        int segment = (int) (locations[slot] >>> 32);
+        int offset = (int) locations[slot];
+        ByteBuffer buffer = segments[segment];
+        int length = buffer.getShort(offset + 16) & 0xFFFF;
+        byte[] bytes = length == NULL_LENGTH ? null : new byte[length];
+        if (bytes != null) {
+            buffer.get(offset + HEADER_BYTES, bytes);
+        }
+        // Segunda oportunidad: la entrada leída se copia al segmento actual antes de que se recicle el suyo
+        if (Math.floorMod(head - segment, segments.length) >= segments.length / 2) {
+            append(high, low, bytes);
+        }
+        return bytes != null ? bytes : NULL_TEXT;
+    }
+
+    private void append(long high, long low, byte[] bytes) {
+        int length = bytes != null ? bytes.length : 0;
+        int entryBytes = HEADER_BYTES + length;
+        if (segments[head] == null) {
+            segments[head] = ByteBuffer.allocateDirect(segmentBytes);
+        }
+        if (positions[head] + entryBytes > segmentBytes) {
+            head = (head + 1) % segments.length;
+            if (segments[head] == null) {
+                segments[head] = ByteBuffer.allocateDirect(segmentBytes);
+            } else {
+                recycle(head);
+            }
+        }
+        ByteBuffer buffer = segments[head];
+        int offset = positions[head];
+        buffer.putLong(offset, high);
+        buffer.putLong(offset + 8, low);
+        buffer.putShort(offset + 16, (short) (bytes != null ? length : NULL_LENGTH));
+        if (bytes != null) {
+            buffer.put(offset + HEADER_BYTES, bytes);
+        }
+        positions[head] += entryBytes;
+        usedBytes += entryBytes;
+
+        long location = ((long) head << 32) | offset;
+        int slot = slot(high, low);
+        if (slot >= 0) {
+            locations[slot] = location;
+        } else {
+            insert(high, low, location);
+        }
+    }
+
+    /**
+     * Vacía un segmento quitando del índice las entradas que todavía apuntan a él.
+     */
+    private void recycle(int segment) {
+        ByteBuffer buffer = segments[segment];
+        int offset = 0;
+        while (offset < positions[segment]) {
+            long high = buffer.getLong(offset);
+            long low = buffer.getLong(offset + 8);
+            int length = buffer.getShort(offset + 16) & 0xFFFF;
+            int slot = slot(high, low);
+            if (slot >= 0 && locations[slot] == (((long) segment << 32) | offset)) {
+                remove(slot);
+            }
+            offset += HEADER_BYTES + (length == NULL_LENGTH ? 0 : length);
+        }
+        usedBytes -= positions[segment];
+        positions[segment] = 0;
+    }
+
+    private int slot(long high, long low) {
+        int mask = locations.length - 1;
+        for (int i = hash(high, low) & mask; locations[i] != EMPTY; i = (i + 1) & mask) {
+            if (keysHigh[i] == high && keysLow[i] == low) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void insert(long high, long low, long location) {
+        if ((size + 1) * 2 > locations.length) {
+            resize(locations.length * 2);
+        }
+        int mask = locations.length - 1;
+        int i = hash(high, low) & mask;
+        while (locations[i] != EMPTY) {
+            i = (i + 1) & mask;
+        }
+        keysHigh[i] = high;
+        keysLow[i] = low;
+        locations[i] = location;
+        size++;
+    }
+
+    /**
+     * Borrado con desplazamiento hacia atrás: sin lápidas, las búsquedas siguen parando en el primer hueco.
+     */
+    private void remove(int slot) {
+        int mask = locations.length - 1;
+        int hole = slot;
+        for (int i = (slot + 1) & mask; locations[i] != EMPTY; i = (i + 1) & mask) {
+            int home = hash(keysHigh[i], keysLow[i]) & mask;
+            // La entrada puede ocupar el hueco si su posición ideal no está entre el hueco y ella
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                keysHigh[hole] = keysHigh[i];
+                keysLow[hole] = keysLow[i];
+                locations[hole] = locations[i];
+                hole = i;
+            }
+        }
+        locations[hole] = EMPTY;
+        size--;
+    }
+
+    private void resize(int capacity) {
+        long[] oldHigh = keysHigh;
+        long[] oldLow = keysLow;
+        long[] oldLocations = locations;
+        keysHigh = new long[capacity];
+        keysLow = new long[capacity];
+        locations = newLocations(capacity);
+        size = 0;
+        for (int i = 0; i < oldLocations.length; i++) {
+            if (oldLocations[i] != EMPTY) {
+                insert(oldHigh[i], oldLow[i], oldLocations[i]);
+            }
+        }
+    }
+
+    private static long[] newLocations(int capacity) {
+        long[] locations = new long[capacity];
+        Arrays.fill(locations, EMPTY);
+        return locations;
+    }
+
+    private static int hash(long high, long low) {
+        long h = (high ^ low) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
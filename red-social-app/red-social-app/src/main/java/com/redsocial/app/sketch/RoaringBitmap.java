@@ -0,0 +1,166 @@
+package com.redsocial.app.sketch;
+
+import java.util.Arrays;
+
+/**
+ * Conjunto de enteros no negativos comprimido al estilo Roaring: los 16 bits altos eligen un contenedor y
+ * los 16 bajos se guardan en él, como array ordenado mientras tiene pocos elementos (hasta 4096, 2 bytes
+ * por elemento) y como mapa de 65536 bits (8 KB) a partir de ahí. Los métodos están sincronizados.
+ */
+public class RoaringBitmap {
+
+    private static final int ARRAY_MAX = 4096;
+    private static final int BITMAP_WORDS = 1 << 10;
+
+    private char[] keys = new char[0];
+    // Cada contenedor es un char[] ordenado (con su tamaño en sizes) o un long[] de BITMAP_WORDS palabras
+    private Object[] containers = new Object[0];
+    private int[] sizes = new int[0];
+
+    public synchronized boolean add(int value) {
+        char high = (char) (value >>> 16);
+        char low = (char) value;
+        int index = Arrays.binarySearch(keys, high);
+        if (index < 0) {
+            index = -index - 1;
+            insertContainer(index, high);
+        }
+        if (containers[index] instanceof long[] words) {
+            long bit = 1L << low;
+            if ((words[low >>> 6] & bit) != 0) {
+                return false;
+            }
+            words[low >>> 6] |= bit;
+            sizes[index]++;
+            return true;
+        }
+
+        char[] values = (char[]) containers[index];
+        int size = sizes[index];
+        int position = Arrays.binarySearch(values, 0, size, low);
+        if (position >= 0) {
+            return false;
+        }
+        if (size == ARRAY_MAX) {
+            long[] words = toBitmap(values, size);
+            words[low >>> 6] |= 1L << low;
+            containers[index] = words;
+        } else {
+            position = -position - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, Math.max(4, size * 2)));
+                containers[index] = values;
+            }
+            System.arraycopy(values, position, values, position + 1, size - position);
+            values[position] = low;
+        }
+        sizes[index]++;
+        return true;
+    }
+
+    public synchronized boolean remove(int value) {
+        int index = Arrays.binarySearch(keys, (char) (value >>> 16));
+        if (index < 0) {
+            return false;
+        }
+        char low = (char) value;
+        if (containers[index] instanceof long[] words) {
+            long bit = 1L << low;
+            if ((words[low >>> 6] & bit) == 0) {
+                return false;
+            }
+            words[low >>> 6] &= ~bit;
+            if (--sizes[index] <= ARRAY_MAX) {
+                containers[index] = toArray(words, sizes[index]);
+            }
+            return true;
+        }
+
+        char[] values = (char[]) containers[index];
+        int size = sizes[index];
+        int position = Arrays.binarySearch(values, 0, size, low);
+        if (position < 0) {
+            return false;
+        }
+        System.arraycopy(values, position + 1, values, position, size - position - 1);
+        if (--sizes[index] == 0) {
+            removeContainer(index);
+        }
+        return true;
+    }
+
+    public synchronized boolean contains(int value) {
+        int index = Arrays.binarySearch(keys, (char) (value >>> 16));
+        if (index < 0) {
+            return false;
+        }
+        char low = (char) value;
+        if (containers[index] instanceof long[] words) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+        return Arrays.binarySearch((char[]) containers[index], 0, sizes[index], low) >= 0;
+    }
+
+    public synchronized int cardinality() {
+        int total = 0;
+        for (int size : sizes) {
+            total += size;
+        }
+        return total;
+    }
+
+    /**
+     * Tamaño aproximado en memoria, para acotar cachés por peso.
+     */
+    public synchronized int sizeInBytes() {
+        int bytes = 64 + keys.length * 2 + sizes.length * 4 + containers.length * 8;
+        for (Object container : containers) {
+            bytes += 16 + (container instanceof long[] words ? words.length * 8 : ((char[]) container).length * 2);
+        }
+        return bytes;
+    }
+
+    private void insertContainer(int index, char high) {
+        int length = keys.length;
+        keys = Arrays.copyOf(keys, length + 1);
+        containers = Arrays.copyOf(containers, length + 1);
+        sizes = Arrays.copyOf(sizes, length + 1);
+        System.arraycopy(keys, index, keys, index + 1, length - index);
+        System.arraycopy(containers, index, containers, index + 1, length - index);
+        System.arraycopy(sizes, index, sizes, index + 1, length - index);
+        keys[index] = high;
+        containers[index] = new char[4];
+        sizes[index] = 0;
+    }
+
+    private void removeContainer(int index) {
+        int length = keys.length;
+        System.arraycopy(keys, index + 1, keys, index, length - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, length - index - 1);
+        System.arraycopy(sizes, index + 1, sizes, index, length - index - 1);
+        keys = Arrays.copyOf(keys, length - 1);
+        containers = Arrays.copyOf(containers, length - 1);
+        sizes = Arrays.copyOf(sizes, length - 1);
+    }
+
+    private static long[] toBitmap(char[] values, int size) {
+        long[] words = new long[BITMAP_WORDS];
+        for (int i = 0; i < size; i++) {
+            words[values[i] >>> 6] |= 1L << values[i];
+        }
+        return words;
+    }
+
+    private static char[] toArray(long[] words, int size) {
+        char[] values = new char[size];
+        int position = 0;
+        for (int word = 0; word < words.length; word++) {
+            long bits = words[word];
+            while (bits != 0) {
+                values[position++] = (char) ((word << 6) + Long.numberOfTrailingZeros(bits));
+                bits &= bits - 1;
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,69 @@
+package com.redsocial.app.sketch;
+
+/**
+ * Huella SimHash de 64 bits de un texto: textos casi iguales dan huellas a poca distancia de Hamming.
+ * Las características son los 4-gramas de caracteres del texto normalizado (minúsculas, y cada racha de
+ * signos o espacios reducida a un espacio), de modo que cambiar una palabra o la puntuación solo altera
+ * unos pocos bits.
+ */
+public final class SimHash {
+
+    private static final int SHINGLE = 4;
+
+    private SimHash() {
+    }
+
+    public static long fingerprint(CharSequence text) {
+        char[] normalized = new char[text.length()];
+        int length = 0;
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && length > 0) {
+                    normalized[length++] = ' ';
+                }
+                pendingSpace = false;
+                normalized[length++] = Character.toLowerCase(c);
+            } else {
+                pendingSpace = true;
+            }
+        }
+
+        int[] weights = new int[64];
+        if (length <= SHINGLE) {
+            accumulate(weights, shingleHash(normalized, 0, length));
+        } else {
+            for (int start = 0; start + SHINGLE <= length; start++) {
+                accumulate(weights, shingleHash(normalized, start, start + SHINGLE));
+            }
+        }
+
+        long fingerprint = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    private static long shingleHash(char[] chars, int from, int to) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = from; i < to; i++) {
+            h ^= chars[i];
+            h *= 0x100000001b3L;
+        }
+        return Hashing.mix(h);
+    }
+
+    private static void accumulate(int[] weights, long hash) {
+        for (int bit = 0; bit < 64; bit++) {
+            weights[bit] += ((hash >>> bit) & 1L) != 0 ? 1 : -1;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.redsocial.app.sketch;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * Índice de huellas SimHash recientes para buscar vecinas a distancia de Hamming pequeña sin comparar con
+ * todas. La huella se divide en 4 bandas de 16 bits: dos huellas a distancia 3 o menos coinciden por fuerza
+ * en al menos una banda (principio del palomar), así que solo se comparan las huellas que comparten alguna.
+ * Cada banda indexa directamente sus 65536 valores posibles. Las entradas viven en un búfer circular:
+ * al llenarse, la más antigua se sobrescribe y sale del índice.
+ */
+public class SimHashIndex<T> {
+
+    public static final int MAX_DISTANCE = 3;
+
+    private static final int BANDS = 4;
+    private static final int BAND_BITS = 16;
+    private static final int BAND_VALUES = 1 << BAND_BITS;
+
+    public record Match<T>(T key, long fingerprint, int distance, long timestamp) {
+    }
+
+    private final long[] fingerprints;
+    private final long[] timestamps;
+    private final Object[] keys;
+    private final int[][][] buckets = new int[BANDS][BAND_VALUES][];
+    private final int[][] bucketSizes = new int[BANDS][BAND_VALUES];
+    private int next;
+    private int size;
+
+    public SimHashIndex(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("La capacidad debe ser positiva");
+        }
+        this.fingerprints = new long[capacity];
+        this.timestamps = new long[capacity];
+        this.keys = new Object[capacity];
+    }
+
+    /**
+     * Huella más cercana a distancia {@code maxDistance} o menor, sin contar las anteriores a {@code notBefore}.
+     *
+     * @return la coincidencia, o {@code null} si no hay ninguna
+     */
+    public Match<T> nearest(long fingerprint, int maxDistance, long notBefore) {
+        return nearest(fingerprint, maxDistance, notBefore, key -> true);
+    }
+
+    /**
+     * Como {@link #nearest(long, int, long)}, pero solo entre las entradas cuya clave cumple {@code filter}.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized Match<T> nearest(long fingerprint, int maxDistance, long notBefore, Predicate<? super T> filter) {
+        if (maxDistance > MAX_DISTANCE) {
+            throw new IllegalArgumentException("La distancia máxima admitida es " + MAX_DISTANCE);
+        }
+        int best = -1;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int band = 0; band < BANDS; band++) {
+            int value = band(fingerprint, band);
+            int[] slots = buckets[band][value];
+            for (int i = 0; i < bucketSizes[band][value]; i++) {
+                int slot = slots[i];
+                if (timestamps[slot] < notBefore) {
+                    continue;
+                }
+                int distance = SimHash.distance(fingerprint, fingerprints[slot]);
+                if (distance <= maxDistance && distance < bestDistance && filter.test((T) keys[slot])) {
+                    best = slot;
+                    bestDistance = distance;
+                }
+            }
+        }
+        return best < 0 ? null : new Match<>((T) keys[best], fingerprints[best], bestDistance, timestamps[best]);
+    }
+
+    public synchronized void add(T key, long fingerprint, long timestamp) {
+        int slot = next;
+        if (keys[slot] != null) {
+            unlink(slot);
+        } else {
+            size++;
+        }
+        keys[slot] = key;
+        fingerprints[slot] = fingerprint;
+        timestamps[slot] = timestamp;
+        for (int band = 0; band < BANDS; band++) {
+            link(band, band(fingerprint, band), slot);
+        }
+        next = (slot + 1) % keys.length;
+    }
+
+    /**
+     * Retira una entrada (por ejemplo, la de un post cuya transacción no llegó a confirmarse).
+     */
+    public synchronized void remove(T key, long fingerprint) {
+        int[] slots = buckets[0][band(fingerprint, 0)];
+        for (int i = 0; i < bucketSizes[0][band(fingerprint, 0)]; i++) {
+            int slot = slots[i];
+            if (key.equals(keys[slot])) {
+                unlink(slot);
+                keys[slot] = null;
+                size--;
+                return;
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void link(int band, int value, int slot) {
+        int[] slots = buckets[band][value];
+        int count = bucketSizes[band][value];
+        if (slots == null) {
+            slots = new int[2];
+        } else if (count == slots.length) {
+            slots = Arrays.copyOf(slots, count * 2);
+        }
+        slots[count] = slot;
+        buckets[band][value] = slots;
+        bucketSizes[band][value] = count + 1;
+    }
+
+    private void unlink(int slot) {
+        for (int band = 0; band < BANDS; band++) {
+            int value = band(fingerprints[slot], band);
+            int[] slots = buckets[band][value];
+            int count = bucketSizes[band][value];
+            for (int i = 0; i < count; i++) {
+                if (slots[i] == slot) {
+                    slots[i] = slots[count - 1];
+                    bucketSizes[band][value] = count - 1;
+                    break;
+                }
+            }
+        }
+    }
+
+    private static int band(long fingerprint, int band) {
+        return (int) (fingerprint >>> (band * BAND_BITS)) & (BAND_VALUES - 1);
+    }
+}
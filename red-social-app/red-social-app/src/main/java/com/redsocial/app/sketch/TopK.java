@@ -0,0 +1,82 @@
+package com.redsocial.app.sketch;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Los K elementos de mayor puntuación, en un montículo de mínimos. Las ofertas que no superan
+ * la puntuación mínima con el montículo lleno se descartan sin tomar el bloqueo.
+ */
+public class TopK<T> {
+
+    public record Entry<T>(T key, double score) {
+    }
+
+    private static final Comparator<Entry<?>> BY_SCORE = Comparator.comparingDouble(Entry::score);
+
+    private final int capacity;
+    private final PriorityQueue<Entry<T>> heap;
+    private final Map<T, Entry<T>> entries = new HashMap<>();
+    private volatile double threshold = Double.NEGATIVE_INFINITY;
+
+    public TopK(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("La capacidad debe ser positiva");
+        }
+        this.capacity = capacity;
+        this.heap = new PriorityQueue<>(capacity, BY_SCORE);
+    }
+
+    public void offer(T key, double score) {
+        if (score <= threshold) {
+            // Si el elemento ya estaba, su puntuación guardada es <= threshold y no cambia el orden relativo
+            return;
+        }
+        synchronized (this) {
+            Entry<T> existing = entries.remove(key);
+            if (existing != null) {
+                heap.remove(existing);
+            } else if (heap.size() >= capacity) {
+                if (score <= heap.peek().score()) {
+                    return;
+                }
+                entries.remove(heap.poll().key());
+            }
+            Entry<T> entry = new Entry<>(key, score);
+            heap.add(entry);
+            entries.put(key, entry);
+            threshold = heap.size() >= capacity ? heap.peek().score() : Double.NEGATIVE_INFINITY;
+        }
+    }
+
+    /**
+     * Recalcula todas las puntuaciones (p. ej. tras aplicar decaimiento).
+     */
+    public synchronized void rescore(ToDoubleFunction<T> scorer) {
+        List<Entry<T>> rescored = new ArrayList<>(heap.size());
+        for (Entry<T> entry : heap) {
+            rescored.add(new Entry<>(entry.key(), scorer.applyAsDouble(entry.key())));
+        }
+        heap.clear();
+        entries.clear();
+        for (Entry<T> entry : rescored) {
+            heap.add(entry);
+            entries.put(entry.key(), entry);
+        }
+        threshold = heap.size() >= capacity ? heap.peek().score() : Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Elementos ordenados de mayor a menor puntuación.
+     */
+    public synchronized List<Entry<T>> snapshot() {
+        List<Entry<T>> sorted = new ArrayList<>(heap);
+        sorted.sort(BY_SCORE.reversed());
+        return sorted;
+    }
+}
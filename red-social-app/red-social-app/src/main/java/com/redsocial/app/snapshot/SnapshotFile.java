@@ -0,0 +1,126 @@
+package com.redsocial.app.snapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * Formato en disco de una instantánea: cabecera fija ({@value #HEADER_BYTES} bytes con número mágico, versión,
+ * marca de agua, fecha de escritura, longitud y CRC32 del contenido) seguida del contenido que escribe cada
+ * estructura. Se escribe en un fichero temporal que sustituye al anterior con un renombrado atómico, y se lee
+ * proyectado en memoria; un contenido de más de 2 GB no se puede leer y se descarta.
+ */
+public final class SnapshotFile {
+
+    /**
+     * Post más reciente de la base de datos cuando se tomó la instantánea ({@code null} si no había posts):
+     * la restauración comprueba que sigue existiendo y se pone al día con los posts posteriores a su fecha.
+     */
+    public record Watermark(UUID postId, long createdAtMicros) {
+    }
+
+    /**
+     * Instantánea leída y validada, lista para que la estructura la restaure.
+     */
+    public record Loaded(Watermark watermark, long writtenAtMillis, SnapshotReader reader) {
+    }
+
+    @FunctionalInterface
+    public interface Body {
+        void write(SnapshotWriter out) throws IOException;
+    }
+
+    private static final int MAGIC = 0x52534E50;
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 56;
+    private static final int CRC_WINDOW_BYTES = 64 * 1024 * 1024;
+
+    private SnapshotFile() {
+    }
+
+    /**
+     * Escribe la instantánea en {@code path} y devuelve su tamaño en bytes.
+     */
+    public static long write(Path path, Watermark watermark, long writtenAtMillis, Body body) throws IOException {
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        long length;
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            SnapshotWriter out = new SnapshotWriter(channel, HEADER_BYTES);
+            body.write(out);
+            out.force();
+            length = out.position();
+            // Las ventanas proyectadas dejan el fichero más largo: se recorta al contenido escrito
+            channel.truncate(length);
+            long payloadLength = length - HEADER_BYTES;
+
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+            header.putInt(MAGIC).putInt(VERSION);
+            if (watermark != null) {
+                header.putLong(watermark.postId().getMostSignificantBits())
+                        .putLong(watermark.postId().getLeastSignificantBits())
+                        .putLong(watermark.createdAtMicros());
+            } else {
+                header.putLong(0).putLong(0).putLong(Long.MIN_VALUE);
+            }
+            header.putLong(writtenAtMillis).putLong(payloadLength).putLong(crc(channel, payloadLength));
+            header.force();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return length;
+    }
+
+    /**
+     * Lee y valida la instantánea de {@code path}, o devuelve {@code null} si no existe. Una cabecera que
+     * no encaja o un CRC distinto se informan como {@link IOException}.
+     */
+    public static Loaded read(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IOException("Instantánea truncada");
+            }
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IOException("Formato de instantánea desconocido");
+            }
+            UUID postId = new UUID(header.getLong(), header.getLong());
+            long createdAtMicros = header.getLong();
+            long writtenAtMillis = header.getLong();
+            long payloadLength = header.getLong();
+            long expectedCrc = header.getLong();
+            if (payloadLength != size - HEADER_BYTES || payloadLength > Integer.MAX_VALUE) {
+                throw new IOException("Longitud de instantánea no válida: " + payloadLength);
+            }
+            if (crc(channel, payloadLength) != expectedCrc) {
+                throw new IOException("CRC de la instantánea no coincide");
+            }
+            // La proyección sigue siendo válida después de cerrar el canal
+            ByteBuffer payload = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, payloadLength);
+            Watermark watermark = createdAtMicros == Long.MIN_VALUE ? null : new Watermark(postId, createdAtMicros);
+            return new Loaded(watermark, writtenAtMillis, new SnapshotReader(payload));
+        }
+    }
+
+    private static long crc(FileChannel channel, long payloadLength) throws IOException {
+        CRC32 crc = new CRC32();
+        for (long offset = 0; offset < payloadLength; offset += CRC_WINDOW_BYTES) {
+            long window = Math.min(CRC_WINDOW_BYTES, payloadLength - offset);
+            crc.update(channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES + offset, window));
+        }
+        return crc.getValue();
+    }
+}
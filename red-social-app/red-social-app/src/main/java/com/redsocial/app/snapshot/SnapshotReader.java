@@ -0,0 +1,65 @@
+package com.redsocial.app.snapshot;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Lectura secuencial del contenido de una instantánea proyectada en memoria, con el mismo formato que
+ * {@link SnapshotWriter}. Un contenido truncado se informa como {@link IOException}.
+ */
+public final class SnapshotReader {
+
+    private final ByteBuffer payload;
+
+    SnapshotReader(ByteBuffer payload) {
+        this.payload = payload;
+    }
+
+    public byte getByte() throws IOException {
+        try {
+            return payload.get();
+        } catch (BufferUnderflowException e) {
+            throw truncated();
+        }
+    }
+
+    public int getInt() throws IOException {
+        try {
+            return payload.getInt();
+        } catch (BufferUnderflowException e) {
+            throw truncated();
+        }
+    }
+
+    public long getLong() throws IOException {
+        try {
+            return payload.getLong();
+        } catch (BufferUnderflowException e) {
+            throw truncated();
+        }
+    }
+
+    public UUID getUuid() throws IOException {
+        return new UUID(getLong(), getLong());
+    }
+
+    public String getString() throws IOException {
+        int length = getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > payload.remaining()) {
+            throw truncated();
+        }
+        byte[] bytes = new byte[length];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static IOException truncated() {
+        return new IOException("Instantánea truncada");
+    }
+}
@@ -0,0 +1,80 @@
+package com.redsocial.app.snapshot;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Escritura secuencial del contenido de una instantánea directamente sobre el fichero proyectado en memoria,
+ * por ventanas de {@value #WINDOW_BYTES} bytes que se van proyectando a medida que se llenan.
+ */
+public final class SnapshotWriter {
+
+    private static final int WINDOW_BYTES = 4 * 1024 * 1024;
+
+    private final FileChannel channel;
+    private MappedByteBuffer window;
+    private long windowStart;
+
+    SnapshotWriter(FileChannel channel, long start) throws IOException {
+        this.channel = channel;
+        this.windowStart = start;
+        this.window = channel.map(FileChannel.MapMode.READ_WRITE, start, WINDOW_BYTES);
+    }
+
+    public void putByte(byte value) throws IOException {
+        ensure(Byte.BYTES).put(value);
+    }
+
+    public void putInt(int value) throws IOException {
+        ensure(Integer.BYTES).putInt(value);
+    }
+
+    public void putLong(long value) throws IOException {
+        ensure(Long.BYTES).putLong(value);
+    }
+
+    public void putUuid(UUID value) throws IOException {
+        ensure(2 * Long.BYTES).putLong(value.getMostSignificantBits()).putLong(value.getLeastSignificantBits());
+    }
+
+    /**
+     * Texto en UTF-8 precedido de su longitud en bytes ({@code -1} para nulo).
+     */
+    public void putString(String value) throws IOException {
+        if (value == null) {
+            putInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        putInt(bytes.length);
+        int offset = 0;
+        while (offset < bytes.length) {
+            int chunk = Math.min(bytes.length - offset, WINDOW_BYTES);
+            ensure(chunk).put(bytes, offset, chunk);
+            offset += chunk;
+        }
+    }
+
+    /**
+     * Posición absoluta en el fichero tras lo último escrito.
+     */
+    long position() {
+        return windowStart + window.position();
+    }
+
+    void force() {
+        window.force();
+    }
+
+    private MappedByteBuffer ensure(int bytes) throws IOException {
+        if (window.remaining() < bytes) {
+            window.force();
+            windowStart = position();
+            window = channel.map(FileChannel.MapMode.READ_WRITE, windowStart, Math.max(WINDOW_BYTES, bytes));
+        }
+        return window;
+    }
+}
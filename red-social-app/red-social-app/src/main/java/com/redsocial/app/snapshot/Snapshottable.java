@@ -0,0 +1,31 @@
+package com.redsocial.app.snapshot;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+
+/**
+ * Estructura en memoria que puede volcarse a una instantánea en disco y restaurarse al arrancar
+ * (ver {@link com.redsocial.app.service.SnapshotService}).
+ */
+public interface Snapshottable {
+
+    /**
+     * Nombre del fichero de la instantánea; debe ser único entre las estructuras.
+     */
+    String snapshotName();
+
+    /**
+     * Si la estructura sigue en frío (sin entradas): entonces no se escribe su instantánea, para no sustituir
+     * una buena por una vacía tras un arranque fallido o una restauración descartada.
+     */
+    boolean isSnapshotEmpty();
+
+    void writeSnapshot(SnapshotWriter out) throws IOException;
+
+    /**
+     * Restaura el estado de la instantánea y lo pone al día con los posts creados desde {@code since}.
+     * Devuelve el número de entradas restauradas; si no es posible ponerse al día debe lanzar una excepción
+     * y dejar la estructura como si no se hubiera restaurado.
+     */
+    int restoreSnapshot(SnapshotReader in, OffsetDateTime since) throws IOException;
+}
@@ -0,0 +1,15 @@
+-- Comentarios y respuestas (CommentService, PostgreSQL). Los índices cubren la paginación por clave
+-- (created_at, id) de los comentarios de un post y de las respuestas de un comentario.
+
+CREATE TABLE IF NOT EXISTS comments (
+    id         UUID                     PRIMARY KEY,
+    post_id    UUID                     NOT NULL,
+    parent_id  UUID                     REFERENCES comments (id),
+    user_id    UUID                     NOT NULL REFERENCES users (id),
+    content    TEXT                     NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE
+);
+
+-- post_id sin clave foránea: con posts particionado la clave primaria es (id, created_at)
+CREATE INDEX IF NOT EXISTS idx_comments_post_created ON comments (post_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_comments_parent_created ON comments (parent_id, created_at, id);
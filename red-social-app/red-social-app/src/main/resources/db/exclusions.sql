@@ -0,0 +1,12 @@
+-- Usuarios silenciados y bloqueados (ExclusionService, PostgreSQL). La clave primaria sirve para cargar
+-- el índice en memoria (ExclusionIndex); el índice por destino, para saber quién ha bloqueado a un usuario.
+
+CREATE TABLE IF NOT EXISTS user_exclusions (
+    user_id    UUID                     NOT NULL REFERENCES users (id),
+    target_id  UUID                     NOT NULL REFERENCES users (id),
+    kind       VARCHAR(10)              NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (user_id, target_id, kind)
+);
+
+CREATE INDEX IF NOT EXISTS idx_user_exclusions_target ON user_exclusions (target_id);
@@ -0,0 +1,16 @@
+-- Grafo de seguimiento (FollowService, PostgreSQL): follower_id sigue a followee_id.
+-- Se carga completo en memoria al arrancar (FollowGraphIndex).
+
+CREATE TABLE IF NOT EXISTS follows (
+    follower_id UUID                     NOT NULL REFERENCES users (id),
+    followee_id UUID                     NOT NULL REFERENCES users (id),
+    created_at  TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (follower_id, followee_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_follows_followee ON follows (followee_id);
+
+-- Líneas temporales por autor (FollowFeedService). Mismo nombre que en posts_partitioning.sql, que lo recrea
+-- sobre la tabla particionada; sustituye a idx_posts_user_created de versiones anteriores de este script.
+CREATE INDEX IF NOT EXISTS idx_posts_user_created_at ON posts (user_id, created_at DESC);
+DROP INDEX IF EXISTS idx_posts_user_created;
@@ -0,0 +1,11 @@
+-- "Me gusta" por usuario y post (LikeService, PostgreSQL). La clave primaria (user_id, post_id) sirve para
+-- reconstruir el bitmap de likes de un usuario (ViewerStateService); el índice por post, para recuentos.
+
+CREATE TABLE IF NOT EXISTS post_likes (
+    user_id    UUID                     NOT NULL REFERENCES users (id),
+    post_id    UUID                     NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (user_id, post_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_post_likes_post ON post_likes (post_id);
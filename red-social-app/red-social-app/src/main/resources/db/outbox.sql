@@ -0,0 +1,25 @@
+-- Outbox transaccional (OutboxService / OutboxRelay, PostgreSQL). Las filas se escriben en la misma
+-- transacción que el cambio de dominio; published_at se rellena cuando el bus las ha entregado.
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id             BIGSERIAL                PRIMARY KEY,
+    aggregate_type VARCHAR(50)              NOT NULL,
+    aggregate_id   UUID                     NOT NULL,
+    event_type     VARCHAR(100)             NOT NULL,
+    payload        TEXT                     NOT NULL,
+    created_at     TIMESTAMP WITH TIME ZONE NOT NULL,
+    published_at   TIMESTAMP WITH TIME ZONE,
+    claimed_by     VARCHAR(64),
+    claimed_at     TIMESTAMP WITH TIME ZONE
+);
+
+-- OutboxRelay: cada evento lo reclama un solo nodo antes de entregarlo
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS claimed_by VARCHAR(64);
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS claimed_at TIMESTAMP WITH TIME ZONE;
+
+-- Índice parcial: el relay solo recorre las filas pendientes, que son pocas frente a las ya publicadas
+CREATE INDEX IF NOT EXISTS idx_outbox_events_pending ON outbox_events (id) WHERE published_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_outbox_events_published ON outbox_events (published_at) WHERE published_at IS NOT NULL;
+-- OutboxTail: cada instancia sigue por ID los eventos de difusión y relee por fecha la ventana reciente
+CREATE INDEX IF NOT EXISTS idx_outbox_events_type_id ON outbox_events (event_type, id);
+CREATE INDEX IF NOT EXISTS idx_outbox_events_created ON outbox_events (created_at);
@@ -0,0 +1,8 @@
+-- Espectadores únicos por post (ViewTrackingService, PostgreSQL): un HyperLogLog serializado por post,
+-- disperso (pares índice/valor) mientras tiene pocos registros y empaquetado a 6 bits después.
+
+CREATE TABLE IF NOT EXISTS post_view_sketches (
+    post_id    UUID                     PRIMARY KEY,
+    registers  BYTEA                    NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
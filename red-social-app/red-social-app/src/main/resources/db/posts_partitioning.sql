@@ -0,0 +1,59 @@
+-- Particionado mensual de posts y almacén frío de posts archivados (PostgreSQL 12+).
+-- Ejecutar una sola vez en una ventana de mantenimiento; después PostPartitionService
+-- crea las particiones futuras (app.posts.partitioning.enabled=true).
+
+BEGIN;
+
+ALTER TABLE posts RENAME TO posts_legacy;
+-- El índice de follows.sql se queda en posts_legacy con el mismo nombre que el de la tabla particionada
+DROP INDEX IF EXISTS idx_posts_user_created_at;
+
+CREATE TABLE posts (
+    id             UUID                     NOT NULL,
+    user_id        UUID                     NOT NULL REFERENCES users (id),
+    content        TEXT                     NOT NULL,
+    media_url      VARCHAR(500),
+    likes_count    INTEGER                  NOT NULL DEFAULT 0,
+    comments_count INTEGER                  NOT NULL DEFAULT 0,
+    created_at     TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at     TIMESTAMP WITH TIME ZONE,
+    -- La clave de partición debe formar parte de la clave primaria
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE INDEX idx_posts_created_at ON posts (created_at DESC);
+CREATE INDEX idx_posts_user_created_at ON posts (user_id, created_at DESC);
+
+-- Particiones para el rango de datos existente y los próximos tres meses. Los meses van en UTC, como las
+-- que crea PostPartitionService, sea cual sea la zona horaria de la sesión.
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', coalesce((SELECT min(created_at) FROM posts_legacy), now()) AT TIME ZONE 'UTC');
+    last_month  DATE := date_trunc('month', now() AT TIME ZONE 'UTC') + INTERVAL '3 months';
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF posts FOR VALUES FROM (%L) TO (%L)',
+            'posts_' || to_char(month_start, 'YYYY_MM'),
+            month_start::timestamp AT TIME ZONE 'UTC',
+            (month_start + INTERVAL '1 month')::timestamp AT TIME ZONE 'UTC');
+        month_start := month_start + INTERVAL '1 month';
+    END LOOP;
+END $$;
+
+INSERT INTO posts SELECT id, user_id, content, media_url, likes_count, comments_count, created_at, updated_at
+FROM posts_legacy;
+
+DROP TABLE posts_legacy;
+
+CREATE TABLE IF NOT EXISTS posts_archive (
+    id          UUID                     PRIMARY KEY,
+    user_id     UUID                     NOT NULL,
+    created_at  TIMESTAMP WITH TIME ZONE NOT NULL,
+    archived_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    payload     BYTEA                    NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_posts_archive_user_created ON posts_archive (user_id, created_at);
+
+COMMIT;
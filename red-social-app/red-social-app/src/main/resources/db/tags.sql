@@ -0,0 +1,20 @@
+-- Índice invertido de hashtags y menciones (TagService, PostgreSQL). Se rellena al publicar, en la
+-- transacción del post. created_at es la fecha del post, copiada para paginar sin unir con posts.
+
+CREATE TABLE IF NOT EXISTS post_tags (
+    tag        VARCHAR(50)              NOT NULL,
+    post_id    UUID                     NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (tag, post_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_post_tags_tag_created ON post_tags (tag, created_at DESC, post_id DESC);
+
+CREATE TABLE IF NOT EXISTS post_mentions (
+    user_id    UUID                     NOT NULL REFERENCES users (id),
+    post_id    UUID                     NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (user_id, post_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_post_mentions_user_created ON post_mentions (user_id, created_at DESC, post_id DESC);
@@ -0,0 +1,8 @@
+-- Instantánea del ranking de tendencias (TrendingService, PostgreSQL).
+-- Se reescribe completa en cada volcado y se recarga al arrancar.
+
+CREATE TABLE IF NOT EXISTS trending_snapshots (
+    post_id     UUID                     PRIMARY KEY,
+    score       DOUBLE PRECISION         NOT NULL,
+    captured_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
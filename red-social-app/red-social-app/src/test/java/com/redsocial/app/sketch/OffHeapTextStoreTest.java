@@ -0,0 +1,93 @@
+package com.redsocial.app.sketch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara {@link OffHeapTextStore} con un mapa de referencia bajo operaciones aleatorias que reciclan segmentos.
+ */
+class OffHeapTextStoreTest {
+
+    private static final int ROUNDS = 200;
+    private static final int OPERATIONS = 300;
+
+    @Test
+    void coincideConUnMapaDeReferencia() {
+        Random random = new Random(7);
+        for (int round = 0; round < ROUNDS; round++) {
+            checkRound(random, round);
+        }
+    }
+
+    private static void checkRound(Random random, int round) {
+        // Segmentos pequeños: cada ronda recicla el anillo varias veces y las lecturas reescriben entradas
+        OffHeapTextStore store = new OffHeapTextStore(4096, 512);
+        List<UUID> ids = new ArrayList<>();
+        Map<UUID, String> expected = new HashMap<>();
+        for (int i = 0; i < OPERATIONS; i++) {
+            if (!ids.isEmpty() && random.nextInt(3) == 0) {
+                UUID id = ids.get(random.nextInt(ids.size()));
+                OffHeapTextStore.Hit hit = store.get(id);
+                if (hit != null) {
+                    assertThat(hit.text()).as("ronda %d, lectura de %s", round, id).isEqualTo(expected.get(id));
+                }
+                continue;
+            }
+            UUID id = UUID.randomUUID();
+            String text = random.nextInt(10) == 0 ? null : "t" + "ñ".repeat(random.nextInt(40)) + id;
+            ids.add(id);
+            expected.put(id, text);
+            assertThat(store.put(id, text)).isTrue();
+        }
+
+        Map<UUID, String> seen = new LinkedHashMap<>();
+        store.forEach((id, text) -> assertThat(seen.put(id, text)).as("ronda %d, %s repetido", round, id).isNull());
+        assertThat(seen).as("ronda %d", round).hasSize(store.size());
+        seen.forEach((id, text) -> {
+            assertThat(expected).containsKey(id);
+            assertThat(text).as("ronda %d, texto de %s", round, id).isEqualTo(expected.get(id));
+        });
+        for (UUID id : ids) {
+            if (store.contains(id)) {
+                assertThat(seen).as("ronda %d", round).containsKey(id);
+            }
+        }
+    }
+
+    @Test
+    void recorreSinDuplicadosMientrasOtroHiloEscribe() throws InterruptedException {
+        OffHeapTextStore store = new OffHeapTextStore(1 << 20, 1 << 14);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread writer = new Thread(() -> {
+            try {
+                for (int i = 0; i < 200_000; i++) {
+                    store.put(UUID.randomUUID(), "x" + i);
+                }
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        writer.start();
+        do {
+            Set<UUID> seen = new HashSet<>();
+            store.forEach((id, text) -> {
+                assertThat(seen.add(id)).as("%s repetido", id).isTrue();
+                assertThat(text).startsWith("x");
+            });
+        } while (writer.isAlive());
+        writer.join();
+        assertThat(failure.get()).isNull();
+    }
+}
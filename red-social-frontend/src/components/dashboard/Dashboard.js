@@ -1,5 +1,5 @@
 import React, { useState, useEffect } from 'react';
-import { authService } from '../../services';
+import { authService, dashboardService } from '../../services';
 import Profile from './Profile';
 import Posts from '../posts/Posts';
 import CreatePost from '../posts/CreatePost';
@@ -8,6 +8,8 @@ const Dashboard = ({ onLogout }) => {
   const [user, setUser] = useState(null);
   const [activeTab, setActiveTab] = useState('posts');
   const [refreshPosts, setRefreshPosts] = useState(0);
+  // undefined mientras carga; null si falla y cada pestaña carga sus datos por separado
+  const [dashboard, setDashboard] = useState(undefined);
 
         useEffect(() => {
           const currentUser = authService.getCurrentUser();
@@ -18,6 +20,22 @@ const Dashboard = ({ onLogout }) => {
           }
         }, []);
 
+  useEffect(() => {
+    if (!user) {
+      return;
+    }
+    const loadDashboard = async () => {
+      try {
+        const response = await dashboardService.getDashboard();
+        setDashboard(response.success ? response.data : null);
+      } catch (error) {
+        setDashboard(null);
+      }
+    };
+
+    loadDashboard();
+  }, [user]);
+
   const handleLogout = async () => {
     try {
       await authService.logout();
@@ -31,7 +49,11 @@ const Dashboard = ({ onLogout }) => {
     setRefreshPosts(prev => prev + 1);
   };
 
-  if (!user) {
+  const handleProfileSaved = (profile) => {
+    setDashboard(prev => (prev ? { ...prev, profile } : prev));
+  };
+
+  if (!user || dashboard === undefined) {
     return (
       <div className="min-h-screen bg-gray-50 flex items-center justify-center">
         <div className="animate-spin rounded-full h-32 w-32 border-b-2 border-primary-600"></div>
@@ -103,12 +125,20 @@ const Dashboard = ({ onLogout }) => {
         {activeTab === 'posts' && (
           <div className="space-y-6">
             <CreatePost user={user} onPostCreated={handlePostCreated} />
-            <Posts user={user} key={refreshPosts} />
+            <Posts
+              user={user}
+              key={refreshPosts}
+              initialPosts={refreshPosts === 0 && dashboard ? dashboard.feed : undefined}
+            />
           </div>
         )}
         
         {activeTab === 'profile' && (
-          <Profile user={user} />
+          <Profile
+            user={user}
+            initialProfile={dashboard ? dashboard.profile : undefined}
+            onProfileSaved={handleProfileSaved}
+          />
         )}
       </main>
     </div>
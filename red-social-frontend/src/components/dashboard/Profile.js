@@ -2,7 +2,17 @@ import React, { useState, useEffect } from 'react';
 import { Button } from '../ui';
 import { profileService, authService } from '../../services';
 
-const Profile = ({ user }) => {
+const toProfileData = (profile) => ({
+  firstName: profile.firstName || '',
+  lastName: profile.lastName || '',
+  email: profile.email || '',
+  alias: profile.alias || '',
+  bio: profile.bio || '',
+  birthDate: profile.birthDate || '',
+  avatarUrl: profile.avatarUrl || ''
+});
+
+const Profile = ({ user, initialProfile, onProfileSaved }) => {
   const [isEditing, setIsEditing] = useState(false);
   const [isLoading, setIsLoading] = useState(true);
   const [error, setError] = useState('');
@@ -18,6 +28,15 @@ const Profile = ({ user }) => {
 
   useEffect(() => {
     const loadProfile = async () => {
+      // Perfil ya recibido con el panel (null si el usuario aún no tiene perfil)
+      if (initialProfile !== undefined) {
+        if (initialProfile) {
+          setProfileData(toProfileData(initialProfile));
+        }
+        setIsLoading(false);
+        return;
+      }
+
       setIsLoading(true);
       setError('');
       
@@ -25,16 +44,7 @@ const Profile = ({ user }) => {
           const response = await profileService.getCurrentUserProfile();
         
         if (response.success) {
-          const profile = response.data;
-          setProfileData({
-            firstName: profile.firstName || '',
-            lastName: profile.lastName || '',
-            email: profile.email || '',
-            alias: profile.alias || '',
-            bio: profile.bio || '',
-            birthDate: profile.birthDate || '',
-            avatarUrl: profile.avatarUrl || ''
-          });
+          setProfileData(toProfileData(response.data));
         }
         } catch (error) {
           setError('Error al cargar el perfil');
@@ -44,7 +54,7 @@ const Profile = ({ user }) => {
     };
 
     loadProfile();
-  }, []);
+  }, [initialProfile]);
 
   const handleInputChange = (e) => {
     const { name, value } = e.target;
@@ -70,6 +80,9 @@ const Profile = ({ user }) => {
       
       if (response.success) {
         setIsEditing(false);
+        if (onProfileSaved) {
+          onProfileSaved(response.data);
+        }
         alert('Perfil actualizado exitosamente');
       }
           } catch (error) {
@@ -82,16 +95,7 @@ const Profile = ({ user }) => {
             try {
               const response = await profileService.getCurrentUserProfile();
               if (response.success) {
-                const profile = response.data;
-                setProfileData({
-                  firstName: profile.firstName || '',
-                  lastName: profile.lastName || '',
-                  email: profile.email || '',
-                  alias: profile.alias || '',
-                  bio: profile.bio || '',
-                  birthDate: profile.birthDate || '',
-                  avatarUrl: profile.avatarUrl || ''
-                });
+                setProfileData(toProfileData(response.data));
               }
             } catch (error) {
               // Error silencioso al cancelar
@@ -2,13 +2,32 @@ import React, { useState, useEffect } from 'react';
 import { formatRelativeTime } from '../../utils';
 import { postsService, usersService } from '../../services';
 
-const Posts = ({ user }) => {
+const toPost = (post) => ({
+  id: post.id,
+  content: post.content,
+  author: {
+    id: post.userId,
+    alias: post.alias || 'Usuario'
+  },
+  createdAt: new Date(post.createdAt),
+  likesCount: post.likesCount,
+  commentsCount: post.commentsCount
+});
+
+const Posts = ({ user, initialPosts }) => {
   const [posts, setPosts] = useState([]);
   const [isLoading, setIsLoading] = useState(true);
   const [error, setError] = useState('');
 
   useEffect(() => {
     const loadPosts = async () => {
+      // Primera página ya recibida con el panel: no hace falta pedirla de nuevo
+      if (initialPosts) {
+        setPosts(initialPosts.map(toPost));
+        setIsLoading(false);
+        return;
+      }
+
       setIsLoading(true);
       setError('');
       
@@ -16,19 +35,7 @@ const Posts = ({ user }) => {
         const response = await postsService.getPosts();
         
         if (response.success) {
-          const transformedPosts = response.data.map((post) => ({
-            id: post.id,
-            content: post.content,
-            author: {
-              id: post.userId,
-              alias: post.alias || 'Usuario'
-            },
-            createdAt: new Date(post.createdAt),
-            likesCount: post.likesCount,
-            commentsCount: post.commentsCount
-          }));
-          
-          setPosts(transformedPosts);
+          setPosts(response.data.map(toPost));
         }
       } catch (error) {
         setError('Error al cargar las publicaciones');
@@ -38,7 +45,7 @@ const Posts = ({ user }) => {
     };
 
     loadPosts();
-  }, []);
+  }, [initialPosts]);
 
   const handleLike = (postId) => {
     setPosts(prevPosts => 
@@ -0,0 +1,38 @@
+import { API_CONFIG } from '../constants';
+
+class DashboardService {
+  constructor() {
+    this.baseURL = API_CONFIG.BASE_URL;
+  }
+
+  async getDashboard(size = 10) {
+    try {
+      const response = await fetch(`${this.baseURL}/dashboard?size=${size}`, {
+        method: 'GET',
+        headers: {
+          'Content-Type': 'application/json',
+          'Authorization': `Bearer ${this.getToken()}`
+        }
+      });
+
+      if (!response.ok) {
+        const errorData = await response.json().catch(() => ({}));
+        throw new Error(errorData.message || `Error ${response.status}: ${response.statusText}`);
+      }
+
+      const data = await response.json();
+      return {
+        success: true,
+        data: data
+      };
+    } catch (error) {
+      throw error;
+    }
+  }
+
+  getToken() {
+    return localStorage.getItem('authToken');
+  }
+}
+
+export default new DashboardService();
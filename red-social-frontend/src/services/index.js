@@ -2,3 +2,4 @@ export { default as authService } from './authService';
 export { default as postsService } from './postsService';
 export { default as usersService } from './usersService';
 export { default as profileService } from './profileService';
+export { default as dashboardService } from './dashboardService';